@@ -0,0 +1,70 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.index.CompletionTrie;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class CompletionTrieBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "ar", "el", "en", "ka", "ki", "ko", "la", "li", "lo", "ma", "mi",
+            "mo", "na", "ni", "no", "ra", "ri", "ro", "sa", "se", "so", "ta", "te", "to", "va", "vi", "ya", "za", "zo",
+            "bel", "dor", "fin", "gar", "hal", "jon", "kov", "lin", "mar", "nov", "ol", "pet", "ren", "sten", "vin"};
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"k", "kar", "karimo", "xyz"})
+    private String prefix;
+
+    private CompletionTrie trie;
+
+    private String existing;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Set<String> names = new HashSet<>();
+        while (names.size() < size) {
+            names.add(name(random));
+        }
+        long started = System.nanoTime();
+        CompletionTrie built = CompletionTrie.EMPTY;
+        for (String name : names) {
+            built = built.add(name, 1 + random.nextInt(100));
+        }
+        trie = built;
+        existing = names.iterator().next();
+        System.out.printf("%n%d names, built in %d ms, ~%d MB estimated%n", trie.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), trie.estimatedBytes() / (1024 * 1024));
+    }
+
+    @Benchmark
+    public List<Completion> topTen() {
+        return trie.complete(prefix, 10);
+    }
+
+    @Benchmark
+    public CompletionTrie incrementAndDecrement() {
+        return trie.add(existing, 1).add(existing, -1);
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(4);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperDtoMappingBenchmark {
+
+    private DeveloperEntity developer;
+
+    private DeveloperDto dto;
+
+    @Setup
+    public void setUp() {
+        developer = developer(0);
+        dto = DeveloperDto.toDto(developer);
+    }
+
+    @Benchmark
+    public DeveloperDto toDto() {
+        return DeveloperDto.toDto(developer);
+    }
+
+    @Benchmark
+    public DeveloperEntity toEntity() {
+        return dto.toEntity();
+    }
+
+    static DeveloperEntity developer(int i) {
+        return DeveloperEntity.builder()
+                .id(i + 1)
+                .email("developer" + i + "@gmail.com")
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .speciality("Java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.dto.ErrorDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperJsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private DeveloperDto developer;
+
+    private List<DeveloperDto> page;
+
+    private ErrorDto error;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        developer = DeveloperDto.toDto(DeveloperDtoMappingBenchmark.developer(0));
+        page = DeveloperDto.toListDto(IntStream.range(0, 20)
+                .mapToObj(DeveloperDtoMappingBenchmark::developer)
+                .toList());
+        error = ErrorDto.builder()
+                .status(404)
+                .message("Developer with ID: 1 not found")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] developer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(developer);
+    }
+
+    @Benchmark
+    public byte[] pageOfTwenty() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
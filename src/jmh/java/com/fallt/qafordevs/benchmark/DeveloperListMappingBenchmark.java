@@ -0,0 +1,32 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperListMappingBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private List<DeveloperEntity> developers;
+
+    @Setup
+    public void setUp() {
+        developers = IntStream.range(0, size)
+                .mapToObj(DeveloperDtoMappingBenchmark::developer)
+                .toList();
+    }
+
+    @Benchmark
+    public List<DeveloperDto> toListDto() {
+        return DeveloperDto.toListDto(developers);
+    }
+}
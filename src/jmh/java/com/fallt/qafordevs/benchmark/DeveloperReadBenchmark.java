@@ -0,0 +1,108 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.QafordevsApplication;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares managed-entity reads with unmanaged constructor-expression reads against an in-memory H2 database.
+ * Every variant runs in a read-only transaction, so the difference is the persistence context and its
+ * dirty-checking snapshots alone: {@code managedById} is {@code findById}, {@code managedPage} is the list query
+ * selecting entities, {@code unmanagedById} is the same lookup through the constructor expression, and
+ * {@code unmanagedPage} is the repository method the service calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeveloperReadBenchmark {
+
+    private static final int DEVELOPERS = 1000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+
+    private DeveloperRepository developerRepository;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private int firstId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(QafordevsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:read-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///read-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        developerRepository = context.getBean(DeveloperRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        List<DeveloperEntity> developers = developerRepository.saveAll(IntStream.range(0, DEVELOPERS)
+                .mapToObj(i -> DeveloperEntity.builder()
+                        .email("read" + i + "@gmail.com")
+                        .firstName("Read")
+                        .lastName("Benchmark" + i)
+                        .speciality("Java")
+                        .status(Status.ACTIVE)
+                        .build())
+                .toList());
+        firstId = developers.get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DeveloperEntity managedById() {
+        return developerRepository.findById(firstId).orElseThrow();
+    }
+
+    @Benchmark
+    public DeveloperEntity unmanagedById() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(
+                        DeveloperRepository.SELECT_UNMANAGED + "FROM DeveloperEntity d WHERE d.id = ?1", DeveloperEntity.class)
+                .setParameter(1, firstId)
+                .getSingleResult());
+    }
+
+    @Benchmark
+    public List<DeveloperEntity> managedPage() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(
+                        "SELECT d FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND d.id > ?1 ORDER BY d.id",
+                        DeveloperEntity.class)
+                .setParameter(1, firstId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<DeveloperEntity> unmanagedPage() {
+        return developerRepository.findActivePage(firstId, Limit.of(PAGE_SIZE));
+    }
+}
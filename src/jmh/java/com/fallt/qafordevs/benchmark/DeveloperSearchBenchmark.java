@@ -0,0 +1,59 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.index.DeveloperSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"John", "Mike", "Anna", "Maria", "Ivan", "Olga", "Peter", "Kate",
+            "Alex", "Nina", "Paul", "Eva", "Oleg", "Sara", "Tom", "Lena", "Igor", "Emma", "Max", "Zoe"};
+
+    private static final String[] LAST_NAMES = {"Smith", "Jones", "Brown", "Petrov", "Ivanova", "Miller", "Davis",
+            "Wilson", "Moore", "Taylor", "Sokolov", "Clark", "Lewis", "Walker", "Hall", "Young", "King", "Wright",
+            "Lopez", "Hill", "Green", "Adams", "Baker", "Nelson", "Carter"};
+
+    private static final String[] SPECIALITIES = {"Java", "Kotlin", "Go", "Python", "JavaScript", "Scala", "Rust", "C#"};
+
+    @Param({"30000"})
+    private int size;
+
+    @Param({"smith", "jo", "maria petrov", "java", "er12"})
+    private String query;
+
+    private DeveloperSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new DeveloperSearchIndex();
+        index.completeRebuild(IntStream.range(0, size)
+                .mapToObj(DeveloperSearchBenchmark::developer)
+                .toList());
+    }
+
+    @Benchmark
+    public List<DeveloperEntity> topTen() {
+        return index.search(query, 10);
+    }
+
+    private static DeveloperEntity developer(int i) {
+        String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+        return DeveloperEntity.builder()
+                .id(i + 1)
+                .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@gmail.com")
+                .firstName(firstName)
+                .lastName(lastName)
+                .speciality(SPECIALITIES[i % SPECIALITIES.length])
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
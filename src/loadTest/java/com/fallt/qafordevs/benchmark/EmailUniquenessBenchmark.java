@@ -0,0 +1,110 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.QafordevsApplication;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.service.DeveloperService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Closed-loop benchmark of developer creation with distinct emails, comparing a {@code findByEmail} check before
+ * every insert with relying on the unique constraint alone. Runs against in-memory H2 by default; pass
+ * {@code jdbcUrl}, {@code username} and {@code password} to measure a real database.
+ */
+public final class EmailUniquenessBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("clients", 16);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("warmupSeconds", 3));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("durationSeconds", 10));
+
+    private static final String JDBC_URL = System.getProperty("jdbcUrl");
+
+    private static final AtomicLong EMAILS = new AtomicLong();
+
+    private EmailUniquenessBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        List<String> arguments = new ArrayList<>(List.of("--spring.jpa.show-sql=false", "--logging.level.root=WARN"));
+        if (JDBC_URL == null) {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:email-uniqueness;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.r2dbc.url=r2dbc:h2:mem:///email-uniqueness;DB_CLOSE_DELAY=-1",
+                    "--spring.r2dbc.username=sa",
+                    "--spring.r2dbc.password="));
+        } else {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=" + JDBC_URL,
+                    "--spring.datasource.username=" + System.getProperty("username", "postgres"),
+                    "--spring.datasource.password=" + System.getProperty("password", "")));
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QafordevsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments.toArray(String[]::new))) {
+            DeveloperRepository developerRepository = context.getBean(DeveloperRepository.class);
+            DeveloperService developerService = context.getBean(DeveloperService.class);
+            Consumer<DeveloperEntity> checkThenInsert = developer -> {
+                if (developerRepository.findByEmail(developer.getEmail()).isEmpty()) {
+                    developer.setStatus(Status.ACTIVE);
+                    developer.setUpdatedAt(DeveloperEntity.currentTimestamp());
+                    developerRepository.saveAndFlush(developer);
+                }
+            };
+            Consumer<DeveloperEntity> constraintOnly = developerService::saveDeveloper;
+            System.out.printf("%nclients=%d, database=%s, measured %d s%n",
+                    CLIENTS, JDBC_URL == null ? "h2" : JDBC_URL, MEASUREMENT.toSeconds());
+            System.out.printf("%-18s %10s %8s%n", "mode", "creates/s", "errors");
+            run("check-then-insert", checkThenInsert);
+            run("constraint-only", constraintOnly);
+        }
+    }
+
+    private static void run(String mode, Consumer<DeveloperEntity> save) {
+        drive(save, WARMUP, new LongAdder(), new LongAdder());
+        LongAdder creates = new LongAdder();
+        LongAdder errors = new LongAdder();
+        drive(save, MEASUREMENT, creates, errors);
+        System.out.printf("%-18s %10.0f %8d%n", mode, creates.sum() / (double) MEASUREMENT.toSeconds(), errors.sum());
+    }
+
+    private static void drive(Consumer<DeveloperEntity> save, Duration duration, LongAdder creates, LongAdder errors) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long n = EMAILS.incrementAndGet();
+                        try {
+                            save.accept(DeveloperEntity.builder()
+                                    .email("unique" + n + "@gmail.com")
+                                    .firstName("Unique")
+                                    .lastName("Email" + n)
+                                    .speciality("Java")
+                                    .build());
+                            creates.increment();
+                        } catch (RuntimeException e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+    }
+}
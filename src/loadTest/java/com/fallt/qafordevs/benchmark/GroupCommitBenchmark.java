@@ -0,0 +1,228 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.QafordevsApplication;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.service.DeveloperWriteBehindQueue;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Closed-loop benchmark of developer creation with one transaction per request and with the group commit
+ * writer. Runs against in-memory H2 by default, where every commit is delayed by {@code commitMillis} to stand in
+ * for the log flush; pass {@code jdbcUrl}, {@code username} and {@code password} to measure a real database.
+ */
+public final class GroupCommitBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("clients", 64);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("warmupSeconds", 3));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("durationSeconds", 10));
+
+    private static final String JDBC_URL = System.getProperty("jdbcUrl");
+
+    private static final long COMMIT_MILLIS = Long.getLong("commitMillis", JDBC_URL == null ? 2 : 0);
+
+    private static final int SPECIALITIES = 1000;
+
+    private static final AtomicLong COMMITS = new AtomicLong();
+
+    private static final AtomicLong EMAILS = new AtomicLong();
+
+    private GroupCommitBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean groupCommit : new boolean[]{false, true}) {
+            results.add(run(groupCommit));
+        }
+        System.out.printf("%nclients=%d, database=%s, added commit latency=%d ms, measured %d s%n",
+                CLIENTS, JDBC_URL == null ? "h2" : JDBC_URL, COMMIT_MILLIS, MEASUREMENT.toSeconds());
+        System.out.printf("%-13s %10s %10s %10s %10s %10s %8s%n",
+                "mode", "creates/s", "commits/s", "per commit", "p50 ms", "p99 ms", "errors");
+        results.forEach(Result::print);
+    }
+
+    private static Result run(boolean groupCommit) throws Exception {
+        String mode = groupCommit ? "group-commit" : "per-request";
+        List<String> arguments = new ArrayList<>(List.of(
+                "--app.write-behind.developers.enabled=" + groupCommit,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        if (JDBC_URL == null) {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:group-commit-" + mode + ";DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.r2dbc.url=r2dbc:h2:mem:///group-commit-" + mode + ";DB_CLOSE_DELAY=-1",
+                    "--spring.r2dbc.username=sa",
+                    "--spring.r2dbc.password="));
+        } else {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=" + JDBC_URL,
+                    "--spring.datasource.username=" + System.getProperty("username", "postgres"),
+                    "--spring.datasource.password=" + System.getProperty("password", "")));
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QafordevsApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new CommitCountingPostProcessor()))
+                .run(arguments.toArray(String[]::new))) {
+            DeveloperService developerService = context.getBean(DeveloperService.class);
+            DeveloperWriteBehindQueue writeBehindQueue = context.getBean(DeveloperWriteBehindQueue.class);
+            UnaryOperator<DeveloperEntity> save = groupCommit ? writeBehindQueue::save : developerService::saveDeveloper;
+            drive(save, WARMUP);
+            long commitsBefore = COMMITS.get();
+            Samples samples = drive(save, MEASUREMENT);
+            return new Result(mode, samples, COMMITS.get() - commitsBefore);
+        }
+    }
+
+    private static Samples drive(UnaryOperator<DeveloperEntity> save, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Samples> perClient = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                Samples samples = new Samples();
+                perClient.add(samples);
+                clients.submit(() -> loop(save, deadline, samples));
+            }
+        }
+        return Samples.merge(perClient, duration);
+    }
+
+    private static void loop(UnaryOperator<DeveloperEntity> save, long deadline, Samples samples) {
+        while (System.nanoTime() < deadline) {
+            long n = EMAILS.incrementAndGet();
+            DeveloperEntity developer = DeveloperEntity.builder()
+                    .email("signup" + n + "@gmail.com")
+                    .firstName("Sign")
+                    .lastName("Up" + n)
+                    .speciality("Speciality" + n % SPECIALITIES)
+                    .build();
+            long start = System.nanoTime();
+            try {
+                save.apply(developer);
+            } catch (RuntimeException e) {
+                samples.errors++;
+                continue;
+            }
+            samples.record(System.nanoTime() - start);
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+
+        private int count;
+
+        private long errors;
+
+        private Duration duration;
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        private static Samples merge(List<Samples> perClient, Duration duration) {
+            Samples merged = new Samples();
+            merged.duration = duration;
+            merged.latencies = perClient.stream()
+                    .flatMapToLong(s -> Arrays.stream(s.latencies, 0, s.count))
+                    .sorted()
+                    .toArray();
+            merged.count = merged.latencies.length;
+            merged.errors = perClient.stream().mapToLong(s -> s.errors).sum();
+            return merged;
+        }
+
+        private double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(count - 1, Math.ceil(percentile / 100 * count) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private record Result(String mode, Samples samples, long commits) {
+
+        private void print() {
+            double seconds = samples.duration.toSeconds();
+            System.out.printf("%-13s %10.0f %10.0f %10.1f %10.1f %10.1f %8d%n",
+                    mode,
+                    samples.count / seconds,
+                    commits / seconds,
+                    commits == 0 ? 0 : samples.count / (double) commits,
+                    samples.percentileMillis(50),
+                    samples.percentileMillis(99),
+                    samples.errors);
+        }
+    }
+
+    private static final class CommitCountingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new CommitCountingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static final class CommitCountingDataSource extends DelegatingDataSource {
+
+        private CommitCountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = obtainTargetDataSource().getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("commit")) {
+                            COMMITS.incrementAndGet();
+                            if (COMMIT_MILLIS > 0) {
+                                Thread.sleep(COMMIT_MILLIS);
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.fallt.qafordevs.benchmark;
+
+import com.fallt.qafordevs.QafordevsApplication;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.service.DeveloperService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Closed-loop HTTP benchmark of the same application started with platform and with virtual request threads.
+ * Every borrowed connection is held for an extra {@code slowQueryMillis} to emulate a slow database, while
+ * most requests are id lookups served from the cache.
+ */
+public final class VirtualThreadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("clients", 1000);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("warmupSeconds", 5));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("durationSeconds", 20));
+
+    private static final long SLOW_QUERY_MILLIS = Long.getLong("slowQueryMillis", 50);
+
+    private static final int DATABASE_REQUEST_PERCENT = Integer.getInteger("databaseRequestPercent", 10);
+
+    private static final int DEVELOPERS = 200;
+
+    private VirtualThreadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(virtualThreads));
+        }
+        System.out.printf("%nclients=%d, slow query=%d ms, database requests=%d%%, measured %d s%n",
+                CLIENTS, SLOW_QUERY_MILLIS, DATABASE_REQUEST_PERCENT, MEASUREMENT.toSeconds());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %8s%n",
+                "threads", "req/s", "p50 ms", "p99 ms", "p99 db ms", "p99.9 ms", "errors");
+        results.forEach(Result::print);
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QafordevsApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new SlowConnectionPostProcessor()))
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+            List<Integer> ids = seed(context.getBean(DeveloperService.class));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/developers";
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            drive(client, baseUrl, ids, WARMUP);
+            return new Result(mode, drive(client, baseUrl, ids, MEASUREMENT));
+        }
+    }
+
+    private static List<Integer> seed(DeveloperService developerService) {
+        List<DeveloperEntity> developers = IntStream.range(0, DEVELOPERS)
+                .mapToObj(i -> DeveloperEntity.builder()
+                        .email("benchmark" + i + "@gmail.com")
+                        .firstName("Bench")
+                        .lastName("Mark" + i)
+                        .speciality("Java")
+                        .build())
+                .toList();
+        return developerService.saveDevelopers(developers).stream()
+                .map(result -> result.getId())
+                .toList();
+    }
+
+    private static Samples drive(HttpClient client, String baseUrl, List<Integer> ids, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Samples> perClient = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                Samples samples = new Samples();
+                perClient.add(samples);
+                clients.submit(() -> loop(client, baseUrl, ids, deadline, samples));
+            }
+        }
+        return Samples.merge(perClient, duration);
+    }
+
+    private static void loop(HttpClient client, String baseUrl, List<Integer> ids, long deadline, Samples samples) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            boolean database = random.nextInt(100) < DATABASE_REQUEST_PERCENT;
+            String url = database ? baseUrl + "?size=20" : baseUrl + "/" + ids.get(random.nextInt(ids.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    samples.errors.incrementAndGet();
+                    continue;
+                }
+            } catch (Exception e) {
+                samples.errors.incrementAndGet();
+                continue;
+            }
+            samples.record(System.nanoTime() - start, database);
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+
+        private long[] databaseLatencies = new long[128];
+
+        private int count;
+
+        private int databaseCount;
+
+        private final AtomicLong errors = new AtomicLong();
+
+        private Duration duration;
+
+        private void record(long nanos, boolean database) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (database) {
+                if (databaseCount == databaseLatencies.length) {
+                    databaseLatencies = Arrays.copyOf(databaseLatencies, databaseCount * 2);
+                }
+                databaseLatencies[databaseCount++] = nanos;
+            }
+        }
+
+        private static Samples merge(List<Samples> perClient, Duration duration) {
+            Samples merged = new Samples();
+            merged.duration = duration;
+            merged.latencies = perClient.stream()
+                    .flatMapToLong(s -> Arrays.stream(s.latencies, 0, s.count))
+                    .sorted()
+                    .toArray();
+            merged.count = merged.latencies.length;
+            merged.databaseLatencies = perClient.stream()
+                    .flatMapToLong(s -> Arrays.stream(s.databaseLatencies, 0, s.databaseCount))
+                    .sorted()
+                    .toArray();
+            merged.databaseCount = merged.databaseLatencies.length;
+            merged.errors.set(perClient.stream().mapToLong(s -> s.errors.get()).sum());
+            return merged;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile / 100 * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private record Result(String mode, Samples samples) {
+
+        private void print() {
+            System.out.printf("%-10s %10.0f %10.1f %10.1f %10.1f %10.1f %8d%n",
+                    mode,
+                    samples.count / (double) samples.duration.toSeconds(),
+                    Samples.percentileMillis(samples.latencies, 50),
+                    Samples.percentileMillis(samples.latencies, 99),
+                    Samples.percentileMillis(samples.databaseLatencies, 99),
+                    Samples.percentileMillis(samples.latencies, 99.9),
+                    samples.errors.get());
+        }
+    }
+
+    private static final class SlowConnectionPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new SlowDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static final class SlowDataSource extends DelegatingDataSource {
+
+        private SlowDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = obtainTargetDataSource().getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            Thread.sleep(SLOW_QUERY_MILLIS);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.fallt.qafordevs.load;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One closed-loop client of api/v1/developers. It only updates and deletes developers it created itself, so
+ * concurrent clients never race each other into a 404 and every non-2xx response counts as an error.
+ */
+final class DeveloperClient {
+
+    static final List<String> SPECIALITIES = List.of("Java", "Kotlin", "Go", "Python", "JavaScript");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final String baseUrl;
+
+    private final String emailPrefix;
+
+    private final WorkloadMix mix;
+
+    private final List<DeveloperDto> developers = new ArrayList<>();
+
+    private int created;
+
+    DeveloperClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String emailPrefix, WorkloadMix mix) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.emailPrefix = emailPrefix;
+        this.mix = mix;
+    }
+
+    void run(long deadlineNanos, EndpointLatencies latencies) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadlineNanos) {
+            Endpoint endpoint = developers.isEmpty() ? Endpoint.CREATE : mix.next(random);
+            long start = System.nanoTime();
+            try {
+                if (execute(endpoint, random)) {
+                    latencies.record(endpoint, System.nanoTime() - start);
+                } else {
+                    latencies.recordError(endpoint);
+                }
+            } catch (IOException e) {
+                latencies.recordError(endpoint);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean execute(Endpoint endpoint, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case CREATE -> create(random);
+            case GET_BY_ID -> isOk(send(get("/" + pick(random).getId())));
+            case LIST -> isOk(send(get("?afterId=" + pick(random).getId() + "&size=20")));
+            case SPECIALITY -> isOk(send(get("/speciality/" + SPECIALITIES.get(random.nextInt(SPECIALITIES.size())))));
+            case UPDATE -> update(random);
+            case SOFT_DELETE -> softDelete(random);
+            case HARD_DELETE -> hardDelete(random);
+        };
+    }
+
+    private boolean create(ThreadLocalRandom random) throws IOException, InterruptedException {
+        DeveloperDto developer = DeveloperDto.builder()
+                .firstName("Load")
+                .lastName("Test" + created)
+                .email(emailPrefix + "-" + created++ + "@gmail.com")
+                .speciality(SPECIALITIES.get(random.nextInt(SPECIALITIES.size())))
+                .build();
+        HttpResponse<byte[]> response = send(json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST", developer));
+        if (!isOk(response)) {
+            return false;
+        }
+        developers.add(objectMapper.readValue(response.body(), DeveloperDto.class));
+        return true;
+    }
+
+    /**
+     * Sends the cached version and caches the updated developer from the response, so the next update of the same
+     * developer carries the current version.
+     */
+    private boolean update(ThreadLocalRandom random) throws IOException, InterruptedException {
+        int index = random.nextInt(developers.size());
+        DeveloperDto developer = developers.get(index);
+        developer.setLastName("Updated" + random.nextInt(1000));
+        developer.setStatus(Status.ACTIVE);
+        HttpResponse<byte[]> response = send(json(HttpRequest.newBuilder(URI.create(baseUrl)), "PUT", developer));
+        if (!isOk(response)) {
+            return false;
+        }
+        developers.set(index, objectMapper.readValue(response.body(), DeveloperDto.class));
+        return true;
+    }
+
+    /**
+     * A soft delete bumps the version without returning it, so the developer is dropped rather than updated again
+     * with a stale version.
+     */
+    private boolean softDelete(ThreadLocalRandom random) throws IOException, InterruptedException {
+        DeveloperDto developer = developers.remove(random.nextInt(developers.size()));
+        return isOk(send(delete(developer.getId(), false)));
+    }
+
+    private boolean hardDelete(ThreadLocalRandom random) throws IOException, InterruptedException {
+        DeveloperDto developer = developers.remove(random.nextInt(developers.size()));
+        return isOk(send(delete(developer.getId(), true)));
+    }
+
+    private DeveloperDto pick(ThreadLocalRandom random) {
+        return developers.get(random.nextInt(developers.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest delete(Integer id, boolean hard) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id + "?isHard=" + hard))
+                .timeout(REQUEST_TIMEOUT)
+                .DELETE()
+                .build();
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, DeveloperDto body) throws IOException {
+        return builder.timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static boolean isOk(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fallt.qafordevs.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mixed create / read / update / delete workload through api/v1/developers with many concurrent
+ * closed-loop clients and reports throughput and p50 / p99 / p99.9 latency per endpoint. Run it with
+ * {@code gradle loadTest}; see the task in build.gradle for the tunable properties.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN"
+})
+@ContextConfiguration(initializers = LoadTestDatabaseInitializer.class)
+public class DeveloperControllerV1LoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("clients", 200);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("warmupSeconds", 10));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("durationSeconds", 30));
+
+    private static final WorkloadMix MIX = WorkloadMix.parse(System.getProperty("mix"));
+
+    private static final double MAX_ERROR_PERCENT = Double.parseDouble(System.getProperty("maxErrorPercent", "0"));
+
+    private static final Path REPORT_DIR = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Test mixed workload against developers api v1 stays within the error budget")
+    public void givenMixedWorkload_whenDrivenByConcurrentClients_thenErrorRateIsWithinBudget() throws Exception {
+        //given
+        String baseUrl = "http://localhost:" + port + "/api/v1/developers";
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+            List<DeveloperClient> clients = new ArrayList<>();
+            long runId = System.currentTimeMillis();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(new DeveloperClient(httpClient, objectMapper, baseUrl, "load-" + runId + "-" + i, MIX));
+            }
+            drive(clients, WARMUP);
+
+            //when
+            EndpointLatencies latencies = drive(clients, MEASUREMENT);
+
+            //then
+            System.out.printf("%nclients=%d, mix=%s, warmup %d s, measured %d s%n",
+                    CLIENTS, MIX, WARMUP.toSeconds(), MEASUREMENT.toSeconds());
+            latencies.printSummary(System.out, MEASUREMENT);
+            latencies.writeDistributions(REPORT_DIR);
+            System.out.printf("Percentile distributions written to %s%n", REPORT_DIR.toAbsolutePath());
+            assertThat(latencies.totalRequests()).isPositive();
+            assertThat(100.0 * latencies.totalErrors() / latencies.totalRequests()).isLessThanOrEqualTo(MAX_ERROR_PERCENT);
+        }
+    }
+
+    private static EndpointLatencies drive(List<DeveloperClient> clients, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<EndpointLatencies> perClient = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (DeveloperClient client : clients) {
+                EndpointLatencies latencies = new EndpointLatencies();
+                perClient.add(latencies);
+                executor.submit(() -> client.run(deadline, latencies));
+            }
+        }
+        return EndpointLatencies.merge(perClient);
+    }
+}
@@ -0,0 +1,32 @@
+package com.fallt.qafordevs.load;
+
+/**
+ * Operations of the mixed workload against api/v1/developers with their default share of requests.
+ */
+public enum Endpoint {
+
+    CREATE("create", 10),
+    GET_BY_ID("getById", 40),
+    LIST("list", 15),
+    SPECIALITY("speciality", 15),
+    UPDATE("update", 10),
+    SOFT_DELETE("softDelete", 5),
+    HARD_DELETE("hardDelete", 5);
+
+    private final String key;
+
+    private final int defaultWeight;
+
+    Endpoint(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+}
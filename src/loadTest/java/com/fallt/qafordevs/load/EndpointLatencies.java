@@ -0,0 +1,96 @@
+package com.fallt.qafordevs.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies in microseconds and error counts per endpoint. Every client records into its own instance so the
+ * measurement loop is free of contention; the instances are merged once the run is over.
+ */
+public final class EndpointLatencies {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+
+    private final Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+
+    public EndpointLatencies() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, 0L);
+        }
+    }
+
+    public void record(Endpoint endpoint, long nanos) {
+        histograms.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordError(Endpoint endpoint) {
+        errors.merge(endpoint, 1L, Long::sum);
+    }
+
+    public static EndpointLatencies merge(List<EndpointLatencies> perClient) {
+        EndpointLatencies merged = new EndpointLatencies();
+        for (EndpointLatencies latencies : perClient) {
+            latencies.histograms.forEach((endpoint, histogram) -> merged.histograms.get(endpoint).add(histogram));
+            latencies.errors.forEach((endpoint, count) -> merged.errors.merge(endpoint, count, Long::sum));
+        }
+        return merged;
+    }
+
+    public long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum() + totalErrors();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public void printSummary(PrintStream out, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        out.printf("%-12s %10s %10s %10s %10s %10s %10s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            all.add(histogram);
+            printRow(out, endpoint.getKey(), histogram, errors.get(endpoint), seconds);
+        }
+        printRow(out, "total", all, totalErrors(), seconds);
+    }
+
+    /**
+     * Writes one percentile distribution per endpoint in the .hgrm format understood by the HdrHistogram plotter,
+     * with values in milliseconds.
+     */
+    public void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Endpoint endpoint : Endpoint.values()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(endpoint.getKey() + ".hgrm")))) {
+                histograms.get(endpoint).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf("%-12s %10d %10.0f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                errors);
+    }
+}
@@ -0,0 +1,61 @@
+package com.fallt.qafordevs.load;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Points both the JDBC and the R2DBC side of the application at the database chosen with the
+ * {@code loadTest.database} system property: an in-memory H2 ({@code h2}, the default) or a Postgres started
+ * with Testcontainers ({@code postgres}). The container lives as long as the JVM running the load test.
+ */
+public class LoadTestDatabaseInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        String database = System.getProperty("loadTest.database", "h2");
+        Map<String, Object> properties = switch (database) {
+            case "h2" -> h2();
+            case "postgres" -> postgres();
+            default -> throw new IllegalArgumentException(MessageFormat.format("Unsupported load test database: {0}", database));
+        };
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("loadTestDatabase", properties));
+    }
+
+    private static Map<String, Object> h2() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///load-test;DB_CLOSE_DELAY=-1");
+        properties.put("spring.r2dbc.username", "sa");
+        properties.put("spring.r2dbc.password", "");
+        return properties;
+    }
+
+    private static synchronized Map<String, Object> postgres() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+            postgres.start();
+        }
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.r2dbc.url", MessageFormat.format("r2dbc:postgresql://{0}:{1,number,#}/{2}",
+                postgres.getHost(), postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), postgres.getDatabaseName()));
+        properties.put("spring.r2dbc.username", postgres.getUsername());
+        properties.put("spring.r2dbc.password", postgres.getPassword());
+        return properties;
+    }
+}
@@ -0,0 +1,73 @@
+package com.fallt.qafordevs.load;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * Weighted choice of the next endpoint. A mix is written as {@code create=10,getById=40,...}; endpoints left out
+ * keep their default weight and a weight of 0 disables an endpoint.
+ */
+public final class WorkloadMix {
+
+    private final Endpoint[] endpoints = Endpoint.values();
+
+    private final int[] cumulativeWeights = new int[endpoints.length];
+
+    private WorkloadMix(Map<Endpoint, Integer> weights) {
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Workload mix must enable at least one endpoint");
+        }
+    }
+
+    public static WorkloadMix parse(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        Arrays.stream(Endpoint.values()).forEach(endpoint -> weights.put(endpoint, endpoint.getDefaultWeight()));
+        if (mix != null && !mix.isBlank()) {
+            for (String entry : mix.split(",")) {
+                String[] keyAndWeight = entry.trim().split("=");
+                if (keyAndWeight.length != 2) {
+                    throw new IllegalArgumentException(MessageFormat.format("Invalid workload mix entry: {0}", entry));
+                }
+                weights.put(endpoint(keyAndWeight[0].trim()), Integer.parseInt(keyAndWeight[1].trim()));
+            }
+        }
+        return new WorkloadMix(weights);
+    }
+
+    public Endpoint next(RandomGenerator random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.stream(endpoints)
+                .map(endpoint -> {
+                    int index = endpoint.ordinal();
+                    int weight = cumulativeWeights[index] - (index == 0 ? 0 : cumulativeWeights[index - 1]);
+                    return endpoint.getKey() + "=" + weight;
+                })
+                .collect(Collectors.joining(","));
+    }
+
+    private static Endpoint endpoint(String key) {
+        return Arrays.stream(Endpoint.values())
+                .filter(endpoint -> endpoint.getKey().equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(MessageFormat.format("Unknown endpoint: {0}", key)));
+    }
+}
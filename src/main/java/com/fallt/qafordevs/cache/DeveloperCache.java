@@ -0,0 +1,178 @@
+package com.fallt.qafordevs.cache;
+
+import com.fallt.qafordevs.config.DeveloperCacheProperties;
+import com.fallt.qafordevs.dto.CacheStatsDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class DeveloperCache {
+
+    private final AsyncCache<Integer, Optional<DeveloperEntity>> byId;
+
+    private final AsyncCache<String, Optional<Integer>> byEmail;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public DeveloperCache(DeveloperCacheProperties properties) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new LookupExpiry<Integer, DeveloperEntity>(properties))
+                .recordStats()
+                .buildAsync();
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new LookupExpiry<String, Integer>(properties))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Loads on the calling thread outside of the map lock, so a virtual thread waiting for the database
+     * does not pin its carrier. Concurrent callers for the same id wait for the same load.
+     */
+    public Optional<DeveloperEntity> findById(Integer id, Function<Integer, Optional<DeveloperEntity>> loader) {
+        CompletableFuture<Optional<DeveloperEntity>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<DeveloperEntity>> cached = byId.get(id, (key, executor) -> load);
+        if (cached == load) {
+            try {
+                load.complete(loader.apply(id).map(DeveloperCache::snapshot));
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return join(cached).map(DeveloperCache::snapshot);
+    }
+
+    /**
+     * Registers the email lookup before loading it, like {@link #findById}, so an invalidation that arrives
+     * during the load drops the pending entry instead of leaving the old row or a negative result behind.
+     */
+    public Optional<DeveloperEntity> findByEmail(String email, Function<String, Optional<DeveloperEntity>> loader) {
+        while (true) {
+            CompletableFuture<Optional<Integer>> load = new CompletableFuture<>();
+            CompletableFuture<Optional<Integer>> cached = byEmail.get(email, (key, executor) -> load);
+            if (cached == load) {
+                return loadByEmail(email, load, loader);
+            }
+            Optional<Integer> cachedId = join(cached);
+            if (cachedId.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<DeveloperEntity> cachedDeveloper = byId.synchronous().getIfPresent(cachedId.get());
+            if (cachedDeveloper != null && cachedDeveloper.isPresent()
+                    && email.equals(cachedDeveloper.get().getEmail())) {
+                return cachedDeveloper.map(DeveloperCache::snapshot);
+            }
+            byEmail.asMap().remove(email, cached);
+        }
+    }
+
+    private Optional<DeveloperEntity> loadByEmail(String email, CompletableFuture<Optional<Integer>> load,
+                                                  Function<String, Optional<DeveloperEntity>> loader) {
+        long invalidationsBefore = invalidations.get();
+        Optional<DeveloperEntity> loaded;
+        try {
+            loaded = loader.apply(email).map(DeveloperCache::snapshot);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        }
+        loaded.ifPresent(developer -> cacheById(developer, invalidationsBefore));
+        load.complete(loaded.map(DeveloperEntity::getId));
+        return loaded.map(DeveloperCache::snapshot);
+    }
+
+    /**
+     * The id was unknown before the load, so it could not be registered; the row is dropped again when any
+     * invalidation ran since the load started.
+     */
+    private void cacheById(DeveloperEntity developer, long invalidationsBefore) {
+        CompletableFuture<Optional<DeveloperEntity>> loaded = CompletableFuture.completedFuture(Optional.of(developer));
+        byId.put(developer.getId(), loaded);
+        if (invalidations.get() != invalidationsBefore) {
+            byId.asMap().remove(developer.getId(), loaded);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> cached) {
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        invalidations.incrementAndGet();
+        switch (event.type()) {
+            case BULK_IMPORTED -> {
+                byId.synchronous().invalidateAll();
+                byEmail.synchronous().invalidateAll();
+            }
+            default -> {
+                byId.synchronous().invalidate(event.id());
+                if (event.developer() != null && event.developer().getEmail() != null) {
+                    byEmail.synchronous().invalidate(event.developer().getEmail());
+                }
+            }
+        }
+    }
+
+    public List<CacheStatsDto> stats() {
+        return List.of(
+                toDto("developersById", byId.synchronous().estimatedSize(), byId.synchronous().stats()),
+                toDto("developersByEmail", byEmail.synchronous().estimatedSize(), byEmail.synchronous().stats()));
+    }
+
+    private static CacheStatsDto toDto(String name, long size, CacheStats stats) {
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(size)
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    private static DeveloperEntity snapshot(DeveloperEntity developer) {
+        return developer.toBuilder().build();
+    }
+
+    private record LookupExpiry<K, V>(DeveloperCacheProperties properties) implements Expiry<K, Optional<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Optional<V> value, long currentTime) {
+            return (value.isPresent() ? properties.getTtl() : properties.getNegativeTtl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Optional<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Optional<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.fallt.qafordevs.cache;
+
+import com.fallt.qafordevs.config.SpecialityResponseCacheProperties;
+import com.fallt.qafordevs.dto.CacheStatsDto;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded speciality listings, bounded by the total number of cached bytes. An entry is served only while
+ * its version matches the one of the speciality index, so a write that is not seen by the event listener
+ * can not make a stale body visible.
+ */
+@Component
+public class SpecialityResponseCache {
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+
+    private final Cache<String, EncodedResponse> responses;
+
+    private final ObjectMapper objectMapper;
+
+    private final long gzipMinSize;
+
+    public SpecialityResponseCache(SpecialityResponseCacheProperties properties, ObjectMapper objectMapper) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String speciality, EncodedResponse response) -> response.weight())
+                .recordStats(() -> statsCounter)
+                .build();
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = properties.getGzipMinSize().toBytes();
+    }
+
+    public EncodedResponse get(String speciality, String version, Supplier<?> body) {
+        EncodedResponse cached = responses.asMap().get(speciality);
+        if (cached != null && cached.version().equals(version)) {
+            statsCounter.recordHits(1);
+            return cached;
+        }
+        statsCounter.recordMisses(1);
+        EncodedResponse encoded = encode(version, body.get());
+        responses.put(speciality, encoded);
+        return encoded;
+    }
+
+    public EncodedResponse uncached(Object body) {
+        return new EncodedResponse(null, toJson(body), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (event.developer() != null && event.developer().getSpeciality() != null) {
+            responses.invalidate(event.developer().getSpeciality());
+        } else {
+            responses.invalidateAll();
+        }
+    }
+
+    public CacheStatsDto stats() {
+        responses.cleanUp();
+        CacheStats stats = responses.stats();
+        return CacheStatsDto.builder()
+                .name("specialityResponses")
+                .size(responses.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .weight(responses.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .maxWeight(responses.policy().eviction().map(Policy.Eviction::getMaximum).orElse(0L))
+                .build();
+    }
+
+    private EncodedResponse encode(String version, Object body) {
+        byte[] json = toJson(body);
+        return new EncodedResponse(version, json, json.length < gzipMinSize ? null : gzip(json));
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    public record EncodedResponse(String version, byte[] json, byte[] gzip) {
+
+        private int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.concurrency-limit")
+public class DataSourceConcurrencyProperties {
+
+    private Integer maxConcurrentConnections;
+
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,21 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.archive.developers")
+public class DeveloperArchiveProperties {
+
+    private boolean enabled = true;
+
+    private Duration retention = Duration.ofDays(30);
+
+    private int chunkSize = 500;
+
+    private int maxChunksPerRun = 100;
+}
@@ -0,0 +1,19 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.developers")
+public class DeveloperCacheProperties {
+
+    private long maxSize = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private Duration negativeTtl = Duration.ofSeconds(5);
+}
@@ -0,0 +1,27 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.change-feed")
+public class DeveloperChangeFeedProperties {
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private int pollBatchSize = 500;
+
+    private Duration gapTimeout = Duration.ofMinutes(1);
+
+    private int bufferSize = 10_000;
+
+    private int subscriberQueueCapacity = 1000;
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    private Duration retention = Duration.ofDays(7);
+}
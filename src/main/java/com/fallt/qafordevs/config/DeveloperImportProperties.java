@@ -0,0 +1,15 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.import.developers")
+public class DeveloperImportProperties {
+
+    private Duration transactionTimeout = Duration.ofHours(1);
+}
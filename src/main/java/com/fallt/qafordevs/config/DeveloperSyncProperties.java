@@ -0,0 +1,17 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sync.developers")
+public class DeveloperSyncProperties {
+
+    private Duration settleWindow = Duration.ofSeconds(10);
+
+    private int maxPageSize = 1000;
+}
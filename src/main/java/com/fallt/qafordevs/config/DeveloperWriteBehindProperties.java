@@ -0,0 +1,23 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.write-behind.developers")
+public class DeveloperWriteBehindProperties {
+
+    private boolean enabled;
+
+    private int queueCapacity = 10_000;
+
+    private int maxBatchSize = 50;
+
+    private Duration maxLinger = Duration.ofMillis(2);
+
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+}
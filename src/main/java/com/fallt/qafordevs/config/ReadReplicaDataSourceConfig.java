@@ -0,0 +1,66 @@
+package com.fallt.qafordevs.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Puts the JPA and JDBC reads of read-only transactions on the configured replicas. The primary pool stays the
+ * {@code dataSource} bean; the routing proxy over it and the replicas becomes the primary DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReadReplicaSet readReplicaSet(@Qualifier("dataSource") DataSource dataSource,
+                                         DataSourceProperties dataSourceProperties,
+                                         ReadReplicaProperties properties,
+                                         ObjectProvider<DataSourceConcurrencyProperties> concurrencyProperties,
+                                         Environment environment) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            String name = Objects.requireNonNullElse(replica.getName(), "replica-" + i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(Objects.requireNonNullElse(replica.getUsername(), dataSourceProperties.determineUsername()))
+                    .password(Objects.requireNonNullElse(replica.getPassword(), dataSourceProperties.determinePassword()))
+                    .build();
+            pool.setPoolName(name);
+            pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+            pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            replicas.put(name, Threading.VIRTUAL.isActive(environment)
+                    ? VirtualThreadDataSourceConfig.concurrencyLimited(pool, concurrencyProperties.getObject())
+                    : pool);
+        }
+        return new ReadReplicaSet(dataSource, replicas, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource routingDataSource(@Qualifier("dataSource") DataSource dataSource, ReadReplicaSet readReplicaSet) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(dataSource, readReplicaSet.asDataSource()));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties.getReadYourWritesWindow());
+    }
+}
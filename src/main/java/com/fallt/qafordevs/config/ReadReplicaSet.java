@@ -0,0 +1,236 @@
+package com.fallt.qafordevs.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The read replicas behind {@link ReadReplicaRoutingDataSource}. Connections go to a healthy replica picked round
+ * robin, or by the power of two choices over the probed round-trip time; a replica that fails to hand out a
+ * connection is skipped until the next successful probe, and the primary serves the read when no replica can.
+ */
+@Slf4j
+public class ReadReplicaSet implements SmartLifecycle, MeterBinder, AutoCloseable {
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final ReadReplicaProperties properties;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final LongAdder fallbacks = new LongAdder();
+
+    private volatile boolean running;
+
+    private volatile Thread prober;
+
+    public ReadReplicaSet(DataSource primary, Map<String, DataSource> replicas, ReadReplicaProperties properties) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList();
+        this.properties = properties;
+    }
+
+    public DataSource asDataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return ReadReplicaSet.this.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLFeatureNotSupportedException("Read replicas use the credentials they are configured with");
+            }
+        };
+    }
+
+    public Connection getConnection() throws SQLException {
+        for (Replica replica : candidates()) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Returns the healthy replicas in the order they should be tried.
+     */
+    List<Replica> candidates() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.up) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.size() < 2) {
+            return healthy;
+        }
+        if (properties.getSelection() == ReadReplicaProperties.Selection.ROUND_ROBIN) {
+            int first = Math.floorMod(nextReplica.getAndIncrement(), healthy.size());
+            List<Replica> rotated = new ArrayList<>(healthy.subList(first, healthy.size()));
+            rotated.addAll(healthy.subList(0, first));
+            return rotated;
+        }
+        healthy.sort(Comparator.comparingDouble(replica -> replica.latencyNanos));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(healthy.size());
+        int b = (a + 1 + random.nextInt(healthy.size() - 1)) % healthy.size();
+        healthy.add(0, healthy.remove(Math.min(a, b)));
+        return healthy;
+    }
+
+    /**
+     * Checks every replica with a round trip, bringing recovered replicas back and updating their latency.
+     */
+    void probe() {
+        int timeoutSeconds = (int) Math.max(1, properties.getProbeTimeout().toSeconds());
+        for (Replica replica : replicas) {
+            long startedAt = System.nanoTime();
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(timeoutSeconds)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                replica.recordLatency(System.nanoTime() - startedAt);
+                if (!replica.up) {
+                    log.info("Read replica {} is back", replica.name);
+                    replica.up = true;
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    private void markDown(Replica replica, Exception e) {
+        if (replica.up) {
+            log.warn("Read replica {} is down, reads go to the other replicas or the primary: {}",
+                    replica.name, e.getMessage());
+            replica.up = false;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.up", replica, r -> r.up ? 1 : 0)
+                    .description("Whether the read replica takes reads")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("datasource.replica.latency", replica, r -> r.latencyNanos / TimeUnit.SECONDS.toNanos(1))
+                    .description("Smoothed round-trip time of the read replica health probe")
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("datasource.replica.connections", replica.connections, LongAdder::sum)
+                    .description("Connections handed out by the read replica")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+        FunctionCounter.builder("datasource.replica.fallbacks", fallbacks, LongAdder::sum)
+                .description("Read-only connections served by the primary because no replica was available")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        prober = Thread.ofPlatform().name("read-replica-probe").daemon().start(this::probeLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(prober);
+        try {
+            prober.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        prober = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource.isWrapperFor(AutoCloseable.class)) {
+                replica.dataSource.unwrap(AutoCloseable.class).close();
+            }
+        }
+    }
+
+    private void probeLoop() {
+        while (running) {
+            probe();
+            if (running) {
+                LockSupport.parkNanos(this, properties.getProbeInterval().toNanos());
+            }
+        }
+    }
+
+    static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private final LongAdder connections = new LongAdder();
+
+        private volatile boolean up = true;
+
+        private volatile double latencyNanos;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        private void recordLatency(long nanos) {
+            latencyNanos = latencyNanos == 0 ? nanos : latencyNanos + LATENCY_SMOOTHING * (nanos - latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.fallt.qafordevs.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.speciality-responses")
+public class SpecialityResponseCacheProperties {
+
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+}
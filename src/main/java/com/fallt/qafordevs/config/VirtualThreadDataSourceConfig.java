@@ -0,0 +1,55 @@
+package com.fallt.qafordevs.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+
+    private static final int DEFAULT_MAX_CONCURRENT_CONNECTIONS = 10;
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<DataSourceConcurrencyProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return concurrencyLimited(dataSource, properties.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    static ConcurrencyLimitedDataSource concurrencyLimited(DataSource dataSource, DataSourceConcurrencyProperties limit) {
+        return new ConcurrencyLimitedDataSource(dataSource, maxConcurrentConnections(dataSource, limit),
+                limit.getAcquireTimeout());
+    }
+
+    private static int maxConcurrentConnections(DataSource dataSource, DataSourceConcurrencyProperties limit) {
+        if (limit.getMaxConcurrentConnections() != null) {
+            return limit.getMaxConcurrentConnections();
+        }
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return maximumPoolSize > 0 ? maximumPoolSize : DEFAULT_MAX_CONCURRENT_CONNECTIONS;
+            }
+        } catch (SQLException e) {
+            return DEFAULT_MAX_CONCURRENT_CONNECTIONS;
+        }
+        return DEFAULT_MAX_CONCURRENT_CONNECTIONS;
+    }
+}
@@ -0,0 +1,54 @@
+package com.fallt.qafordevs.dto;
+
+import com.fallt.qafordevs.entity.DeveloperArchiveEntity;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArchivedDeveloperDto {
+
+    private Integer id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private String speciality;
+
+    private Long version;
+
+    private Instant deletedAt;
+
+    private Instant archivedAt;
+
+    public static ArchivedDeveloperDto toDto(DeveloperArchiveEntity entity) {
+        return ArchivedDeveloperDto.builder()
+                .id(entity.getId())
+                .firstName(entity.getFirstName())
+                .lastName(entity.getLastName())
+                .email(entity.getEmail())
+                .speciality(entity.getSpeciality())
+                .version(entity.getVersion())
+                .deletedAt(entity.getDeletedAt())
+                .archivedAt(entity.getArchivedAt())
+                .build();
+    }
+
+    public static List<ArchivedDeveloperDto> toListDto(List<DeveloperArchiveEntity> entities) {
+        return entities.stream()
+                .map(ArchivedDeveloperDto::toDto)
+                .toList();
+    }
+}
@@ -0,0 +1,5 @@
+package com.fallt.qafordevs.dto;
+
+public enum BatchItemStatus {
+    CREATED, DUPLICATE_EMAIL
+}
@@ -0,0 +1,31 @@
+package com.fallt.qafordevs.dto;
+
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompletionDto {
+
+    private String value;
+
+    private int developers;
+
+    public static List<CompletionDto> toListDto(List<Completion> completions) {
+        return completions.stream()
+                .map(completion -> CompletionDto.builder()
+                        .value(completion.value())
+                        .developers(completion.count())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.fallt.qafordevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperBatchResultDto {
+
+    private Integer index;
+
+    private Integer id;
+
+    private String email;
+
+    private BatchItemStatus status;
+
+    private String message;
+}
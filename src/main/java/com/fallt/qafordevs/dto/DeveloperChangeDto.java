@@ -0,0 +1,49 @@
+package com.fallt.qafordevs.dto;
+
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperChangeDto {
+
+    private Long sequence;
+
+    private DeveloperChangeType type;
+
+    private Integer developerId;
+
+    private DeveloperDto developer;
+
+    private Instant occurredAt;
+
+    public static DeveloperChangeDto toDto(DeveloperChangeEntity entity) {
+        boolean upsert = entity.getType() == DeveloperChangeType.CREATED || entity.getType() == DeveloperChangeType.UPDATED;
+        return DeveloperChangeDto.builder()
+                .sequence(entity.getId())
+                .type(entity.getType())
+                .developerId(entity.getDeveloperId())
+                .developer(upsert ? DeveloperDto.toDto(DeveloperEntity.builder()
+                        .id(entity.getDeveloperId())
+                        .email(entity.getEmail())
+                        .firstName(entity.getFirstName())
+                        .lastName(entity.getLastName())
+                        .speciality(entity.getSpeciality())
+                        .status(entity.getStatus())
+                        .version(entity.getVersion())
+                        .build()) : null)
+                .occurredAt(entity.getOccurredAt())
+                .build();
+    }
+}
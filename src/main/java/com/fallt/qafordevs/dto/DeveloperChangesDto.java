@@ -0,0 +1,25 @@
+package com.fallt.qafordevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperChangesDto {
+
+    private List<DeveloperDto> changed;
+
+    private List<Integer> deleted;
+
+    private String watermark;
+
+    private boolean hasMore;
+}
@@ -30,6 +30,8 @@ public class DeveloperDto {
 
     private Status status;
 
+    private Long version;
+
     public DeveloperEntity toEntity() {
         return DeveloperEntity.builder()
                 .id(id)
@@ -38,6 +40,7 @@ public class DeveloperDto {
                 .email(email)
                 .speciality(speciality)
                 .status(status)
+                .version(version)
                 .build();
     }
 
@@ -49,6 +52,7 @@ public class DeveloperDto {
                 .email(entity.getEmail())
                 .speciality(entity.getSpeciality())
                 .status(entity.getStatus())
+                .version(entity.getVersion())
                 .build();
     }
 
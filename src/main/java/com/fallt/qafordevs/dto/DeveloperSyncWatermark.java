@@ -0,0 +1,40 @@
+package com.fallt.qafordevs.dto;
+
+import com.fallt.qafordevs.exeption.InvalidSyncWatermarkException;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Position of a client in the {@code (updatedAt, id)} order of developer rows, handed out as an opaque token.
+ * {@code initialSync} marks the pages of a first download, which need no tombstones from before it started and
+ * so are not limited by the outbox retention.
+ */
+public record DeveloperSyncWatermark(Instant updatedAt, int afterId, boolean initialSync) {
+
+    public static final DeveloperSyncWatermark INITIAL = new DeveloperSyncWatermark(Instant.EPOCH, 0, true);
+
+    private static final String INITIAL_SYNC_SUFFIX = ".initial";
+
+    public static DeveloperSyncWatermark parse(String token) {
+        boolean initialSync = token.endsWith(INITIAL_SYNC_SUFFIX);
+        String position = initialSync ? token.substring(0, token.length() - INITIAL_SYNC_SUFFIX.length()) : token;
+        int separator = position.indexOf('.');
+        try {
+            if (separator < 0) {
+                throw new NumberFormatException();
+            }
+            long micros = Long.parseLong(position, 0, separator, 10);
+            int afterId = Integer.parseInt(position, separator + 1, position.length(), 10);
+            return new DeveloperSyncWatermark(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), afterId, initialSync);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new InvalidSyncWatermarkException(MessageFormat.format("Invalid sync watermark: {0}", token));
+        }
+    }
+
+    public String encode() {
+        String position = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt) + "." + afterId;
+        return initialSync ? position + INITIAL_SYNC_SUFFIX : position;
+    }
+}
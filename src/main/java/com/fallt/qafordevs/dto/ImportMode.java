@@ -0,0 +1,5 @@
+package com.fallt.qafordevs.dto;
+
+public enum ImportMode {
+    COPY, BATCH
+}
@@ -0,0 +1,5 @@
+package com.fallt.qafordevs.dto;
+
+public enum ImportRejectReason {
+    MISSING_EMAIL, DUPLICATE_IN_FILE, DUPLICATE_EMAIL
+}
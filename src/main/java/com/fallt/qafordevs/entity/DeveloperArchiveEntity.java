@@ -0,0 +1,41 @@
+package com.fallt.qafordevs.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Cold copy of a soft-deleted developer, moved out of {@code developers} once its retention period is over. The id
+ * is the one the developer had; {@code deletedAt} is the timestamp of the soft delete.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "developers_archive",
+        indexes = @Index(name = "idx_developers_archive_email", columnList = "email"))
+public class DeveloperArchiveEntity {
+
+    @Id
+    private Integer id;
+
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String speciality;
+
+    private Long version;
+
+    private Instant deletedAt;
+
+    private Instant archivedAt;
+}
@@ -0,0 +1,76 @@
+package com.fallt.qafordevs.entity;
+
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Outbox row written in the same transaction as the developer change it describes. The id is the sequence
+ * number of the change feed; deletions only carry the developer id. Ids are not pooled, so a gap in the
+ * sequence only ever stands for a transaction that is still open or rolled back.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "developer_changes",
+        indexes = @Index(name = "idx_developer_changes_occurred_at", columnList = "occurred_at"))
+public class DeveloperChangeEntity {
+
+    public static final String ID_SEQUENCE = "developer_changes_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private DeveloperChangeType type;
+
+    private Integer developerId;
+
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String speciality;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Status status;
+
+    private Long version;
+
+    private Instant occurredAt;
+
+    public static DeveloperChangeEntity of(DeveloperChangeType type, DeveloperEntity developer) {
+        return DeveloperChangeEntity.builder()
+                .type(type)
+                .developerId(developer.getId())
+                .email(developer.getEmail())
+                .firstName(developer.getFirstName())
+                .lastName(developer.getLastName())
+                .speciality(developer.getSpeciality())
+                .status(developer.getStatus())
+                .version(developer.getVersion())
+                .occurredAt(Objects.requireNonNullElseGet(developer.getUpdatedAt(), DeveloperEntity::currentTimestamp))
+                .build();
+    }
+
+    public static DeveloperChangeEntity bulkImported() {
+        return DeveloperChangeEntity.builder()
+                .type(DeveloperChangeType.BULK_IMPORTED)
+                .occurredAt(DeveloperEntity.currentTimestamp())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.fallt.qafordevs.entity;
+
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Builder(toBuilder = true)
+@Table("developer_changes")
+public record DeveloperChangeRow(
+        @Id Long id,
+        DeveloperChangeType type,
+        Integer developerId,
+        String email,
+        String firstName,
+        String lastName,
+        String speciality,
+        Status status,
+        Long version,
+        Instant occurredAt) {
+
+    public static DeveloperChangeRow fromEntity(DeveloperChangeEntity entity) {
+        return DeveloperChangeRow.builder()
+                .id(entity.getId())
+                .type(entity.getType())
+                .developerId(entity.getDeveloperId())
+                .email(entity.getEmail())
+                .firstName(entity.getFirstName())
+                .lastName(entity.getLastName())
+                .speciality(entity.getSpeciality())
+                .status(entity.getStatus())
+                .version(entity.getVersion())
+                .occurredAt(entity.getOccurredAt())
+                .build();
+    }
+}
@@ -2,18 +2,35 @@ package com.fallt.qafordevs.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
-@Table(name = "developers")
+@Builder(toBuilder = true)
+@Table(name = "developers",
+        indexes = {
+                @Index(name = "idx_developers_status_id", columnList = "status, id"),
+                @Index(name = "idx_developers_updated_at_id", columnList = "updated_at, id")
+        },
+        uniqueConstraints = @UniqueConstraint(name = DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class DeveloperEntity {
 
+    public static final String ID_SEQUENCE = "developers_seq";
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_developers_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Integer id;
 
     private String email;
@@ -25,5 +42,19 @@ public class DeveloperEntity {
     private String speciality;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Status status;
+
+    @Version
+    private Long version;
+
+    private Instant updatedAt;
+
+    /**
+     * Timestamp for {@link #updatedAt}, truncated to the precision the column keeps so that a value read back
+     * compares equal to the one written.
+     */
+    public static Instant currentTimestamp() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
@@ -0,0 +1,46 @@
+package com.fallt.qafordevs.entity;
+
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Builder(toBuilder = true)
+@Table("developers")
+public record DeveloperRow(
+        @Id Integer id,
+        String email,
+        String firstName,
+        String lastName,
+        String speciality,
+        Status status,
+        Long version,
+        Instant updatedAt) {
+
+    public static DeveloperRow fromEntity(DeveloperEntity entity) {
+        return DeveloperRow.builder()
+                .id(entity.getId())
+                .email(entity.getEmail())
+                .firstName(entity.getFirstName())
+                .lastName(entity.getLastName())
+                .speciality(entity.getSpeciality())
+                .status(entity.getStatus())
+                .version(entity.getVersion())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    public DeveloperEntity toEntity() {
+        return DeveloperEntity.builder()
+                .id(id)
+                .email(email)
+                .firstName(firstName)
+                .lastName(lastName)
+                .speciality(speciality)
+                .status(status)
+                .version(version)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.fallt.qafordevs.event;
+
+public enum DeveloperChangeType {
+    CREATED, UPDATED, SOFT_DELETED, HARD_DELETED, BULK_IMPORTED
+}
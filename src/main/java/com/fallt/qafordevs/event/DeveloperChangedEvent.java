@@ -0,0 +1,14 @@
+package com.fallt.qafordevs.event;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+
+public record DeveloperChangedEvent(DeveloperChangeType type, Integer id, DeveloperEntity developer) {
+
+    public static DeveloperChangedEvent of(DeveloperChangeType type, DeveloperEntity developer) {
+        return new DeveloperChangedEvent(type, developer.getId(), developer.toBuilder().build());
+    }
+
+    public static DeveloperChangedEvent bulkImported() {
+        return new DeveloperChangedEvent(DeveloperChangeType.BULK_IMPORTED, null, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fallt.qafordevs.exeption;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+
+public final class DataIntegrityViolations {
+
+    private DataIntegrityViolations() {
+    }
+
+    public static boolean isDuplicateEmail(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT)
+                        .contains(DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT);
+            }
+            if (cause instanceof R2dbcDataIntegrityViolationException violation && violation.getMessage() != null) {
+                return violation.getMessage().toLowerCase(Locale.ROOT)
+                        .contains(DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.fallt.qafordevs.exeption;
+
+public class DeveloperVersionConflictException extends RuntimeException {
+
+    public DeveloperVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fallt.qafordevs.exeption;
+
+public class DeveloperWriteQueueFullException extends RuntimeException {
+
+    public DeveloperWriteQueueFullException(String message) {
+        super(message);
+    }
+}
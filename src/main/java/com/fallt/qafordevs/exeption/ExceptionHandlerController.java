@@ -1,6 +1,9 @@
 package com.fallt.qafordevs.exeption;
 
 import com.fallt.qafordevs.dto.ErrorDto;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -9,8 +12,44 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class ExceptionHandlerController {
 
+    private static final String ERRORS_METRIC = "developer.errors";
+
     @ExceptionHandler(DeveloperWithDuplicateEmailException.class)
     public ResponseEntity<ErrorDto> handleDuplicateEmailException(Exception e) {
+        countError("duplicate_email");
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(400)
+                .message(e.getMessage())
+                .build();
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDto> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        if (DataIntegrityViolations.isDuplicateEmail(e)) {
+            return handleDuplicateEmailException(new DeveloperWithDuplicateEmailException("Email already use"));
+        }
+        countError("data_integrity_violation");
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(409)
+                .message("Data integrity violation")
+                .build();
+        return new ResponseEntity<>(errorDto, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ErrorDto> handleInvalidImportFileException(Exception e) {
+        countError("invalid_import_file");
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(400)
+                .message(e.getMessage())
+                .build();
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidSyncWatermarkException.class)
+    public ResponseEntity<ErrorDto> handleInvalidSyncWatermarkException(Exception e) {
+        countError("invalid_sync_watermark");
         ErrorDto errorDto = ErrorDto.builder()
                 .status(400)
                 .message(e.getMessage())
@@ -18,12 +57,49 @@ public class ExceptionHandlerController {
         return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(SyncWatermarkExpiredException.class)
+    public ResponseEntity<ErrorDto> handleSyncWatermarkExpiredException(Exception e) {
+        countError("sync_watermark_expired");
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(410)
+                .message(e.getMessage())
+                .build();
+        return new ResponseEntity<>(errorDto, HttpStatus.GONE);
+    }
+
     @ExceptionHandler(DeveloperNotFoundException.class)
     public ResponseEntity<ErrorDto> handleDeveloperNotFoundException(Exception e) {
+        countError("not_found");
         ErrorDto errorDto = ErrorDto.builder()
                 .status(404)
                 .message(e.getMessage())
                 .build();
         return new ResponseEntity<>(errorDto, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(DeveloperVersionConflictException.class)
+    public ResponseEntity<ErrorDto> handleDeveloperVersionConflictException(Exception e) {
+        countError("version_conflict");
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(409)
+                .message(e.getMessage())
+                .build();
+        return new ResponseEntity<>(errorDto, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DeveloperWriteQueueFullException.class)
+    public ResponseEntity<ErrorDto> handleDeveloperWriteQueueFullException(Exception e) {
+        countError("write_queue_full");
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(503)
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDto);
+    }
+
+    private static void countError(String reason) {
+        Metrics.counter(ERRORS_METRIC, "reason", reason).increment();
+    }
 }
@@ -0,0 +1,8 @@
+package com.fallt.qafordevs.exeption;
+
+public class InvalidImportFileException extends RuntimeException {
+
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
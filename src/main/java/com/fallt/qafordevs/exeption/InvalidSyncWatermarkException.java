@@ -0,0 +1,8 @@
+package com.fallt.qafordevs.exeption;
+
+public class InvalidSyncWatermarkException extends RuntimeException {
+
+    public InvalidSyncWatermarkException(String message) {
+        super(message);
+    }
+}
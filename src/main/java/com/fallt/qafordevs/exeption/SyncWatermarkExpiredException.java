@@ -0,0 +1,8 @@
+package com.fallt.qafordevs.exeption;
+
+public class SyncWatermarkExpiredException extends RuntimeException {
+
+    public SyncWatermarkExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Version of the last change an index applied for every developer. AFTER_COMMIT listeners of two writes to the
+ * same developer can run in either order, so only a change newer than the applied one gets through. A hard
+ * delete is final, as ids are never reused. Callers hold the write lock of their index.
+ */
+final class AppliedVersions {
+
+    private static final long HARD_DELETED = Long.MAX_VALUE;
+
+    private final Map<Integer, Long> versions = new HashMap<>();
+
+    void loaded(DeveloperEntity developer) {
+        if (developer.getVersion() != null) {
+            versions.put(developer.getId(), developer.getVersion());
+        }
+    }
+
+    /**
+     * Records the version of the change and returns whether it is newer than the applied one. A change without a
+     * version is applied unless the developer was hard deleted.
+     */
+    boolean advance(DeveloperChangedEvent event) {
+        Long applied = versions.get(event.id());
+        if (applied != null && applied == HARD_DELETED) {
+            return false;
+        }
+        long version;
+        if (event.type() == DeveloperChangeType.HARD_DELETED) {
+            version = HARD_DELETED;
+        } else if (event.developer() == null || event.developer().getVersion() == null) {
+            return true;
+        } else {
+            version = event.developer().getVersion();
+        }
+        if (applied != null && version <= applied) {
+            return false;
+        }
+        versions.put(event.id(), version);
+        return true;
+    }
+}
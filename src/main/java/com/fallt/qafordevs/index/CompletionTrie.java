@@ -0,0 +1,295 @@
+package com.fallt.qafordevs.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable radix tree of values with a count each, answering the most frequent completions of a prefix.
+ * Every node keeps the highest count of its subtree, so a lookup visits only the branches that can still
+ * reach the top, and ties are followed depth-first so that a common count does not turn it into a scan.
+ * Updates copy the path to the changed node and share everything else, and edge labels are ranges of the
+ * keys passing through them instead of separate strings.
+ */
+public final class CompletionTrie {
+
+    public static final CompletionTrie EMPTY = new CompletionTrie(new Node("", 0, 0, null, 0, 0, Node.NO_CHILDREN), 0);
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingInt(Candidate::count).reversed()
+            .thenComparing(Candidate::isNode)
+            .thenComparing(Comparator.comparingLong(Candidate::order).reversed());
+
+    private final Node root;
+
+    private final int size;
+
+    private CompletionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public record Completion(String value, int count) {
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Changes the count of a value by {@code delta}, removing it once the count drops to zero. Values are
+     * matched case-insensitively and keep the spelling they were first added with.
+     */
+    public CompletionTrie add(String value, int delta) {
+        if (value == null || value.isBlank() || delta == 0) {
+            return this;
+        }
+        String key = value.strip().toLowerCase(Locale.ROOT);
+        int before = count(key);
+        Node updated = add(root, key, 0, value.strip(), delta);
+        if (updated == root) {
+            return this;
+        }
+        int after = Math.max(0, before + delta);
+        int sizeChange = (after > 0 ? 1 : 0) - (before > 0 ? 1 : 0);
+        return new CompletionTrie(updated, size + sizeChange);
+    }
+
+    public int count(String value) {
+        String key = value.strip().toLowerCase(Locale.ROOT);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null || !child.labelMatches(key, position)) {
+                return 0;
+            }
+            position += child.labelLength();
+            node = child;
+        }
+        return node.count;
+    }
+
+    /**
+     * Returns at most {@code limit} values starting with the prefix, most frequent first.
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        if (prefix == null || limit < 1) {
+            return List.of();
+        }
+        Node start = find(prefix.strip().toLowerCase(Locale.ROOT));
+        if (start == null) {
+            return List.of();
+        }
+        List<Completion> completions = new ArrayList<>(Math.min(limit, 16));
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        long order = 0;
+        queue.add(new Candidate(start, null, start.best, order++));
+        while (!queue.isEmpty() && completions.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.node() == null) {
+                completions.add(candidate.completion());
+                continue;
+            }
+            Node node = candidate.node();
+            if (node.count > 0) {
+                queue.add(new Candidate(null, new Completion(node.value, node.count), node.count, order++));
+            }
+            for (int i = node.children.length - 1; i >= 0; i--) {
+                queue.add(new Candidate(node.children[i], null, node.children[i].best, order++));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Approximate heap used by the nodes, counting every key and value once.
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            bytes += 40 + (node.children.length == 0 ? 0 : 16 + 4L * node.children.length);
+            if (node.count > 0) {
+                bytes += 40 + node.value.length() + 40 + node.to;
+            }
+            pending.addAll(List.of(node.children));
+        }
+        return bytes;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.child(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = child.commonPrefix(prefix, position);
+            if (position + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.labelLength()) {
+                return null;
+            }
+            position += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private static Node add(Node node, String key, int position, String value, int delta) {
+        if (position == key.length()) {
+            int count = Math.max(0, node.count + delta);
+            if (count == node.count) {
+                return node;
+            }
+            String nodeValue = count == 0 ? null : node.value == null ? value : node.value;
+            return new Node(node.text, node.from, node.to, nodeValue, count, Node.best(count, node.children),
+                    node.children);
+        }
+        int index = node.childIndex(key.charAt(position));
+        if (index < 0) {
+            if (delta < 0) {
+                return node;
+            }
+            Node leaf = new Node(key, position, key.length(), value, delta, delta, Node.NO_CHILDREN);
+            return node.withChildren(Node.inserted(node.children, -index - 1, leaf));
+        }
+        Node child = node.children[index];
+        int common = child.commonPrefix(key, position);
+        if (common < child.labelLength()) {
+            if (delta < 0) {
+                return node;
+            }
+            child = child.split(common);
+        }
+        Node updated = add(child, key, position + common, value, delta);
+        if (updated == child && child == node.children[index]) {
+            return node;
+        }
+        updated = updated.compact();
+        return node.withChildren(updated == null
+                ? Node.removed(node.children, index)
+                : Node.replaced(node.children, index, updated));
+    }
+
+    private record Candidate(Node node, Completion completion, int count, long order) {
+
+        private boolean isNode() {
+            return node != null;
+        }
+    }
+
+    /**
+     * The edge label of a node is {@code text.substring(from, to)}, where {@code text} is any key that passes
+     * through the node and {@code from} and {@code to} are the depths of the parent and of the node.
+     */
+    private record Node(String text, int from, int to, String value, int count, int best, Node[] children) {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private int labelLength() {
+            return to - from;
+        }
+
+        private char firstChar() {
+            return text.charAt(from);
+        }
+
+        private boolean labelMatches(String key, int position) {
+            return key.regionMatches(position, text, from, labelLength());
+        }
+
+        private int commonPrefix(String key, int position) {
+            int length = Math.min(labelLength(), key.length() - position);
+            int common = 0;
+            while (common < length && text.charAt(from + common) == key.charAt(position + common)) {
+                common++;
+            }
+            return common;
+        }
+
+        private Node child(char first) {
+            int index = childIndex(first);
+            return index < 0 ? null : children[index];
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleChar = children[middle].firstChar();
+                if (middleChar < first) {
+                    low = middle + 1;
+                } else if (middleChar > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private Node split(int length) {
+            Node lower = new Node(text, from + length, to, value, count, best, children);
+            return new Node(text, from, from + length, null, 0, best, new Node[]{lower});
+        }
+
+        /**
+         * Drops a node that no longer holds a value or children, and merges a valueless node into its only child.
+         */
+        private Node compact() {
+            if (count > 0) {
+                return this;
+            }
+            if (children.length == 0) {
+                return null;
+            }
+            if (children.length == 1) {
+                Node only = children[0];
+                return new Node(only.text, only.from - labelLength(), only.to, only.value, only.count, only.best,
+                        only.children);
+            }
+            return this;
+        }
+
+        private Node withChildren(Node[] children) {
+            return new Node(text, from, to, value, count, best(count, children), children);
+        }
+
+        private static int best(int count, Node[] children) {
+            int best = count;
+            for (Node child : children) {
+                best = Math.max(best, child.best);
+            }
+            return best;
+        }
+
+        private static Node[] inserted(Node[] children, int index, Node child) {
+            Node[] updated = new Node[children.length + 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            updated[index] = child;
+            System.arraycopy(children, index, updated, index + 1, children.length - index);
+            return updated;
+        }
+
+        private static Node[] replaced(Node[] children, int index, Node child) {
+            Node[] updated = children.clone();
+            updated[index] = child;
+            return updated;
+        }
+
+        private static Node[] removed(Node[] children, int index) {
+            Node[] updated = new Node[children.length - 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            System.arraycopy(children, index + 1, updated, index, children.length - index - 1);
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Type-ahead over first names, last names, full names and specialities of active developers. Every
+ * completion carries the number of active developers behind it, and the most common ones come first.
+ */
+@Component
+public class DeveloperAutocompleteIndex implements MeterBinder {
+
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private volatile boolean ready;
+
+    private List<DeveloperChangedEvent> pendingEvents;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Completion> completeNames(String prefix, int limit) {
+        return snapshot.names.complete(prefix, limit);
+    }
+
+    public List<Completion> completeSpecialities(String prefix, int limit) {
+        return snapshot.specialities.complete(prefix, limit);
+    }
+
+    public long estimatedBytes() {
+        Snapshot current = snapshot;
+        return current.names.estimatedBytes() + current.specialities.estimatedBytes();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("developer.autocomplete.index.values", this, index -> index.snapshot.names.size())
+                .description("Distinct names in the autocomplete index")
+                .tag("field", "name")
+                .register(registry);
+        Gauge.builder("developer.autocomplete.index.values", this, index -> index.snapshot.specialities.size())
+                .description("Distinct specialities in the autocomplete index")
+                .tag("field", "speciality")
+                .register(registry);
+        Gauge.builder("developer.autocomplete.index.memory", this, DeveloperAutocompleteIndex::estimatedBytes)
+                .description("Approximate heap used by the autocomplete index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (event.type() == DeveloperChangeType.BULK_IMPORTED) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            snapshot.apply(event);
+        }
+    }
+
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            pendingEvents = new ArrayList<>();
+        }
+    }
+
+    public void completeRebuild(Collection<DeveloperEntity> activeDevelopers) {
+        synchronized (writeLock) {
+            Snapshot rebuilt = new Snapshot();
+            activeDevelopers.forEach(rebuilt::load);
+            if (pendingEvents != null) {
+                pendingEvents.forEach(rebuilt::apply);
+                pendingEvents = null;
+            }
+            snapshot = rebuilt;
+            ready = true;
+        }
+    }
+
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            pendingEvents = null;
+        }
+    }
+
+    /**
+     * Readers only see the tries, which writers replace on every change.
+     */
+    private static final class Snapshot {
+
+        private final Map<Integer, DeveloperEntity> byId = new HashMap<>();
+
+        private volatile CompletionTrie names = CompletionTrie.EMPTY;
+
+        private volatile CompletionTrie specialities = CompletionTrie.EMPTY;
+
+        private final AppliedVersions appliedVersions = new AppliedVersions();
+
+        private void load(DeveloperEntity developer) {
+            appliedVersions.loaded(developer);
+            update(developer, 1);
+        }
+
+        private void apply(DeveloperChangedEvent event) {
+            if (!appliedVersions.advance(event)) {
+                return;
+            }
+            DeveloperEntity previous = byId.get(event.id());
+            if (previous != null) {
+                update(previous, -1);
+            }
+            boolean upsert = event.type() == DeveloperChangeType.CREATED || event.type() == DeveloperChangeType.UPDATED;
+            if (upsert && event.developer() != null && event.developer().getStatus() == Status.ACTIVE) {
+                update(event.developer(), 1);
+            }
+        }
+
+        private void update(DeveloperEntity developer, int delta) {
+            if (delta > 0) {
+                byId.put(developer.getId(), developer);
+            } else {
+                byId.remove(developer.getId());
+            }
+            CompletionTrie updatedNames = names
+                    .add(developer.getFirstName(), delta)
+                    .add(developer.getLastName(), delta);
+            if (developer.getFirstName() != null && developer.getLastName() != null) {
+                updatedNames = updatedNames.add(developer.getFirstName() + " " + developer.getLastName(), delta);
+            }
+            names = updatedNames;
+            specialities = specialities.add(developer.getSpeciality(), delta);
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram index over names, email and speciality of active developers. Grams are kept per field, and every
+ * word is indexed with a leading space, so terms shorter than a trigram still match word prefixes. Posting
+ * lists are arrays of documents sorted by id that writers replace as a whole; candidates are verified
+ * against the indexed text before they are ranked, so a gram shared by unrelated words never produces a
+ * false hit.
+ */
+@Component
+public class DeveloperSearchIndex implements MeterBinder {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int[] FIELD_WEIGHTS = {3, 3, 2, 1};
+
+    private static final int EXACT_WORD = 3;
+
+    private static final int WORD_PREFIX = 2;
+
+    private static final int INFIX = 1;
+
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingInt(Hit::score)
+            .thenComparing(Comparator.comparingInt((Hit hit) -> hit.document().id()).reversed());
+
+    private static final Document[] NO_DOCUMENTS = new Document[0];
+
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private volatile boolean ready;
+
+    private List<DeveloperChangedEvent> pendingEvents;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns at most {@code limit} developers that match every term of the query, best matches first.
+     * The returned entities are shared and must not be modified.
+     */
+    public List<DeveloperEntity> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        return snapshot.search(terms, limit);
+    }
+
+    /**
+     * Approximate heap used by posting lists and indexed text, not counting the shared entities.
+     */
+    public long estimatedBytes() {
+        return snapshot.estimatedBytes();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("developer.search.index.documents", this, index -> index.snapshot.documents.size())
+                .description("Active developers in the search index")
+                .register(registry);
+        Gauge.builder("developer.search.index.grams", this, index -> index.snapshot.postings.size())
+                .description("Distinct grams in the search index")
+                .register(registry);
+        Gauge.builder("developer.search.index.memory", this, DeveloperSearchIndex::estimatedBytes)
+                .description("Approximate heap used by the search index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (event.type() == DeveloperChangeType.BULK_IMPORTED) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            snapshot.apply(event);
+        }
+    }
+
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            pendingEvents = new ArrayList<>();
+        }
+    }
+
+    public void completeRebuild(Collection<DeveloperEntity> activeDevelopers) {
+        synchronized (writeLock) {
+            Snapshot rebuilt = new Snapshot();
+            rebuilt.addAll(activeDevelopers);
+            if (pendingEvents != null) {
+                pendingEvents.forEach(rebuilt::apply);
+                pendingEvents = null;
+            }
+            snapshot = rebuilt;
+            ready = true;
+        }
+    }
+
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            pendingEvents = null;
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static String gram(int field, String text, int start, int end) {
+        return (char) ('0' + field) + text.substring(start, end);
+    }
+
+    private static Set<String> termGrams(int field, String term) {
+        if (term.length() < GRAM_LENGTH) {
+            return Set.of(gram(field, " " + term, 0, term.length() + 1));
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            grams.add(gram(field, term, i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static Document[] insert(Document[] documents, Document document) {
+        if (documents == null) {
+            return new Document[]{document};
+        }
+        int position = indexOf(documents, document.id());
+        if (position >= 0) {
+            Document[] updated = documents.clone();
+            updated[position] = document;
+            return updated;
+        }
+        int insertAt = -position - 1;
+        Document[] updated = new Document[documents.length + 1];
+        System.arraycopy(documents, 0, updated, 0, insertAt);
+        updated[insertAt] = document;
+        System.arraycopy(documents, insertAt, updated, insertAt + 1, documents.length - insertAt);
+        return updated;
+    }
+
+    private static Document[] delete(Document[] documents, int id) {
+        int position = indexOf(documents, id);
+        if (position < 0) {
+            return documents;
+        }
+        if (documents.length == 1) {
+            return null;
+        }
+        Document[] updated = new Document[documents.length - 1];
+        System.arraycopy(documents, 0, updated, 0, position);
+        System.arraycopy(documents, position + 1, updated, position, documents.length - position - 1);
+        return updated;
+    }
+
+    private static int indexOf(Document[] documents, int id) {
+        int low = 0;
+        int high = documents.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = documents[middle].id();
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static Document[] intersect(Document[] left, Document[] right) {
+        Document[] result = new Document[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            int leftId = left[i].id();
+            int rightId = right[j].id();
+            if (leftId < rightId) {
+                i++;
+            } else if (leftId > rightId) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private record Hit(Document document, int score) {
+    }
+
+    /**
+     * Documents matching one or more terms, sorted by id, with the summed score of every document.
+     */
+    private record Matches(Document[] documents, int[] scores, int size) {
+
+        private static final Matches NONE = new Matches(NO_DOCUMENTS, new int[0], 0);
+
+        private Matches and(Matches other) {
+            Document[] matchedDocuments = new Document[Math.min(size, other.size)];
+            int[] matchedScores = new int[matchedDocuments.length];
+            int matched = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                int leftId = documents[i].id();
+                int rightId = other.documents[j].id();
+                if (leftId < rightId) {
+                    i++;
+                } else if (leftId > rightId) {
+                    j++;
+                } else {
+                    matchedDocuments[matched] = documents[i];
+                    matchedScores[matched++] = scores[i++] + other.scores[j++];
+                }
+            }
+            return new Matches(matchedDocuments, matchedScores, matched);
+        }
+    }
+
+    private record Document(int id, DeveloperEntity developer, String[] fields, String[][] words) {
+
+        private static Document of(DeveloperEntity developer) {
+            String[] fields = {developer.getFirstName(), developer.getLastName(), developer.getEmail(),
+                    developer.getSpeciality()};
+            String[][] words = new String[fields.length][];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i] == null ? "" : fields[i].toLowerCase(Locale.ROOT);
+                words[i] = tokenize(fields[i]).toArray(String[]::new);
+            }
+            return new Document(developer.getId(), developer, fields, words);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new LinkedHashSet<>();
+            for (int field = 0; field < words.length; field++) {
+                for (String word : words[field]) {
+                    String padded = " " + word;
+                    grams.add(gram(field, padded, 0, 2));
+                    for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+                        grams.add(gram(field, padded, i, i + GRAM_LENGTH));
+                    }
+                }
+            }
+            return grams;
+        }
+
+        private int match(int field, String term) {
+            int quality = 0;
+            for (String word : words[field]) {
+                if (word.equals(term)) {
+                    return EXACT_WORD;
+                }
+                if (word.startsWith(term)) {
+                    quality = WORD_PREFIX;
+                }
+            }
+            if (quality == 0 && term.length() >= GRAM_LENGTH && fields[field].contains(term)) {
+                quality = INFIX;
+            }
+            return quality;
+        }
+
+        private long estimatedBytes() {
+            long bytes = 64;
+            for (int i = 0; i < fields.length; i++) {
+                bytes += 40 + fields[i].length() + 16;
+                for (String word : words[i]) {
+                    bytes += 48 + word.length();
+                }
+            }
+            return bytes;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Map<Integer, Document> documents = new ConcurrentHashMap<>();
+
+        private final Map<String, Document[]> postings = new ConcurrentHashMap<>();
+
+        private final AppliedVersions appliedVersions = new AppliedVersions();
+
+        private List<DeveloperEntity> search(List<String> terms, int limit) {
+            List<Document[][]> candidates = new ArrayList<>(terms.size());
+            Document[] matchingAll = null;
+            for (String term : terms) {
+                Document[][] termCandidates = candidates(term);
+                candidates.add(termCandidates);
+                if (terms.size() > 1) {
+                    Document[] matchingTerm = union(termCandidates);
+                    matchingAll = matchingAll == null ? matchingTerm : intersect(matchingAll, matchingTerm);
+                    if (matchingAll.length == 0) {
+                        return List.of();
+                    }
+                }
+            }
+            Matches matches = null;
+            for (int i = 0; i < terms.size(); i++) {
+                Document[][] termCandidates = candidates.get(i);
+                if (matchingAll != null) {
+                    for (int field = 0; field < termCandidates.length; field++) {
+                        termCandidates[field] = intersect(termCandidates[field], matchingAll);
+                    }
+                }
+                Matches termMatches = score(terms.get(i), termCandidates);
+                matches = matches == null ? termMatches : matches.and(termMatches);
+                if (matches.size() == 0) {
+                    return List.of();
+                }
+            }
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            for (int i = 0; i < matches.size(); i++) {
+                Document document = matches.documents()[i];
+                int score = matches.scores()[i];
+                if (best.size() < limit || outranks(score, document, best.peek())) {
+                    best.add(new Hit(document, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+            List<Hit> ranked = new ArrayList<>(best);
+            ranked.sort(WORST_FIRST.reversed());
+            List<DeveloperEntity> developers = new ArrayList<>(ranked.size());
+            ranked.forEach(hit -> developers.add(hit.document().developer()));
+            return developers;
+        }
+
+        private Document[][] candidates(String term) {
+            Document[][] candidates = new Document[FIELD_WEIGHTS.length][];
+            for (int field = 0; field < FIELD_WEIGHTS.length; field++) {
+                Document[] fieldCandidates = null;
+                for (String gram : termGrams(field, term)) {
+                    Document[] posting = postings.getOrDefault(gram, NO_DOCUMENTS);
+                    fieldCandidates = fieldCandidates == null ? posting : intersect(fieldCandidates, posting);
+                    if (fieldCandidates.length == 0) {
+                        break;
+                    }
+                }
+                candidates[field] = fieldCandidates;
+            }
+            return candidates;
+        }
+
+        /**
+         * Scores a term only in the fields whose grams contain it, merging the per field candidates by id.
+         */
+        private static Matches score(String term, Document[][] candidates) {
+            int total = Arrays.stream(candidates).mapToInt(fieldCandidates -> fieldCandidates.length).sum();
+            if (total == 0) {
+                return Matches.NONE;
+            }
+            Document[] documents = new Document[total];
+            int[] scores = new int[total];
+            int size = 0;
+            int[] positions = new int[candidates.length];
+            for (int nextId = nextId(candidates, positions); nextId != Integer.MAX_VALUE;
+                 nextId = nextId(candidates, positions)) {
+                Document document = null;
+                int score = 0;
+                for (int field = 0; field < candidates.length; field++) {
+                    if (positions[field] < candidates[field].length
+                            && candidates[field][positions[field]].id() == nextId) {
+                        document = candidates[field][positions[field]++];
+                        score = Math.max(score, FIELD_WEIGHTS[field] * document.match(field, term));
+                    }
+                }
+                if (score > 0) {
+                    documents[size] = document;
+                    scores[size++] = score;
+                }
+            }
+            return new Matches(documents, scores, size);
+        }
+
+        private static Document[] union(Document[][] candidates) {
+            Document[] documents = new Document[Arrays.stream(candidates).mapToInt(fieldCandidates -> fieldCandidates.length).sum()];
+            int size = 0;
+            int[] positions = new int[candidates.length];
+            for (int nextId = nextId(candidates, positions); nextId != Integer.MAX_VALUE;
+                 nextId = nextId(candidates, positions)) {
+                for (int field = 0; field < candidates.length; field++) {
+                    if (positions[field] < candidates[field].length
+                            && candidates[field][positions[field]].id() == nextId) {
+                        documents[size] = candidates[field][positions[field]++];
+                    }
+                }
+                size++;
+            }
+            return size == documents.length ? documents : Arrays.copyOf(documents, size);
+        }
+
+        private static int nextId(Document[][] candidates, int[] positions) {
+            int nextId = Integer.MAX_VALUE;
+            for (int field = 0; field < candidates.length; field++) {
+                if (positions[field] < candidates[field].length) {
+                    nextId = Math.min(nextId, candidates[field][positions[field]].id());
+                }
+            }
+            return nextId;
+        }
+
+        private static boolean outranks(int score, Document document, Hit worst) {
+            return score > worst.score() || score == worst.score() && document.id() < worst.document().id();
+        }
+
+        private void apply(DeveloperChangedEvent event) {
+            if (!appliedVersions.advance(event)) {
+                return;
+            }
+            Document previous = documents.remove(event.id());
+            if (previous != null) {
+                remove(previous);
+            }
+            boolean upsert = event.type() == DeveloperChangeType.CREATED || event.type() == DeveloperChangeType.UPDATED;
+            if (upsert && event.developer() != null && event.developer().getStatus() == Status.ACTIVE) {
+                add(event.developer());
+            }
+        }
+
+        private void addAll(Collection<DeveloperEntity> developers) {
+            Map<String, List<Document>> grouped = new HashMap<>();
+            for (DeveloperEntity developer : developers) {
+                appliedVersions.loaded(developer);
+                Document document = Document.of(developer);
+                documents.put(document.id(), document);
+                for (String gram : document.grams()) {
+                    grouped.computeIfAbsent(gram, key -> new ArrayList<>()).add(document);
+                }
+            }
+            grouped.forEach((gram, matches) -> {
+                Document[] sorted = matches.toArray(NO_DOCUMENTS);
+                Arrays.sort(sorted, Comparator.comparingInt(Document::id));
+                postings.put(gram, sorted);
+            });
+        }
+
+        private void add(DeveloperEntity developer) {
+            Document document = Document.of(developer);
+            for (String gram : document.grams()) {
+                postings.compute(gram, (key, matches) -> insert(matches, document));
+            }
+            documents.put(document.id(), document);
+        }
+
+        private void remove(Document document) {
+            for (String gram : document.grams()) {
+                postings.computeIfPresent(gram, (key, matches) -> delete(matches, document.id()));
+            }
+        }
+
+        private long estimatedBytes() {
+            long bytes = 0;
+            for (Map.Entry<String, Document[]> posting : postings.entrySet()) {
+                bytes += 32 + 40 + posting.getKey().length() + 16 + 4L * posting.getValue().length;
+            }
+            for (Document document : documents.values()) {
+                bytes += 32 + 16 + document.estimatedBytes();
+            }
+            return bytes;
+        }
+    }
+}
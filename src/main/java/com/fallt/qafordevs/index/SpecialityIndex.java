@@ -0,0 +1,154 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Active developers grouped by speciality. Reads never block: every speciality maps to an immutable
+ * list that writers replace as a whole. The returned entities are shared and must not be modified.
+ * Every speciality also carries a change counter that writers bump after replacing its list, so a version
+ * read before the list is never newer than the list itself.
+ */
+@Component
+public class SpecialityIndex {
+
+    private static final Comparator<DeveloperEntity> BY_ID = Comparator.comparing(DeveloperEntity::getId);
+
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private volatile boolean ready;
+
+    private List<DeveloperChangedEvent> pendingEvents;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<DeveloperEntity> findBySpeciality(String speciality) {
+        return snapshot.bySpeciality.getOrDefault(speciality, List.of());
+    }
+
+    /**
+     * Identifies the current content of a speciality list. The counter is prefixed with a random epoch of the
+     * snapshot, so versions never repeat across rebuilds or restarts.
+     */
+    public String versionOf(String speciality) {
+        Snapshot current = snapshot;
+        return current.epoch + "-" + current.versions.getOrDefault(speciality, 0L);
+    }
+
+    public Map<String, List<DeveloperEntity>> bySpeciality() {
+        return Map.copyOf(snapshot.bySpeciality);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (event.type() == DeveloperChangeType.BULK_IMPORTED) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            snapshot.apply(event);
+        }
+    }
+
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            pendingEvents = new ArrayList<>();
+        }
+    }
+
+    public void completeRebuild(Collection<DeveloperEntity> activeDevelopers) {
+        synchronized (writeLock) {
+            Snapshot rebuilt = new Snapshot();
+            activeDevelopers.forEach(rebuilt::load);
+            if (pendingEvents != null) {
+                pendingEvents.forEach(rebuilt::apply);
+                pendingEvents = null;
+            }
+            snapshot = rebuilt;
+            ready = true;
+        }
+    }
+
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            pendingEvents = null;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+        private final Map<Integer, DeveloperEntity> byId = new ConcurrentHashMap<>();
+
+        private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+        private final Map<String, List<DeveloperEntity>> bySpeciality = new ConcurrentHashMap<>();
+
+        private final AppliedVersions appliedVersions = new AppliedVersions();
+
+        private void apply(DeveloperChangedEvent event) {
+            if (!appliedVersions.advance(event)) {
+                return;
+            }
+            DeveloperEntity previous = byId.remove(event.id());
+            if (previous != null) {
+                remove(previous);
+            }
+            boolean upsert = event.type() == DeveloperChangeType.CREATED || event.type() == DeveloperChangeType.UPDATED;
+            if (upsert && event.developer() != null && event.developer().getStatus() == Status.ACTIVE) {
+                add(event.developer());
+            }
+        }
+
+        private void load(DeveloperEntity developer) {
+            appliedVersions.loaded(developer);
+            add(developer);
+        }
+
+        private void add(DeveloperEntity developer) {
+            if (developer.getSpeciality() == null) {
+                return;
+            }
+            byId.put(developer.getId(), developer);
+            bySpeciality.compute(developer.getSpeciality(), (speciality, developers) -> {
+                List<DeveloperEntity> updated = developers == null ? new ArrayList<>() : new ArrayList<>(developers);
+                updated.removeIf(d -> d.getId().equals(developer.getId()));
+                updated.add(developer);
+                updated.sort(BY_ID);
+                return List.copyOf(updated);
+            });
+            versions.merge(developer.getSpeciality(), 1L, Long::sum);
+        }
+
+        private void remove(DeveloperEntity developer) {
+            bySpeciality.computeIfPresent(developer.getSpeciality(), (speciality, developers) -> {
+                List<DeveloperEntity> updated = developers.stream()
+                        .filter(d -> !d.getId().equals(developer.getId()))
+                        .toList();
+                return updated.isEmpty() ? null : updated;
+            });
+            if (developer.getSpeciality() != null) {
+                versions.merge(developer.getSpeciality(), 1L, Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.repository.SpecialityCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.speciality-index.consistency-check", name = "enabled", havingValue = "true")
+public class SpecialityIndexConsistencyCheck {
+
+    private final SpecialityIndex specialityIndex;
+
+    private final SpecialityIndexLoader specialityIndexLoader;
+
+    private final DeveloperRepository developerRepository;
+
+    @Scheduled(fixedDelayString = "${app.speciality-index.consistency-check.interval:PT5M}",
+            initialDelayString = "${app.speciality-index.consistency-check.interval:PT5M}")
+    public void verify() {
+        if (!isConsistent()) {
+            log.warn("Speciality index diverged from the database, rebuilding");
+            specialityIndexLoader.rebuild();
+        }
+    }
+
+    public boolean isConsistent() {
+        if (!specialityIndex.isReady()) {
+            return false;
+        }
+        Map<String, Counts> expected = new HashMap<>();
+        for (SpecialityCount count : developerRepository.countActiveBySpeciality()) {
+            expected.put(count.getSpeciality(), new Counts(count.getDevelopers(), count.getIdChecksum(),
+                    count.getVersionChecksum()));
+        }
+        Map<String, Counts> actual = new HashMap<>();
+        specialityIndex.bySpeciality().forEach((speciality, developers) -> actual.put(speciality, Counts.of(developers)));
+        return expected.equals(actual);
+    }
+
+    /**
+     * The version checksum catches an older row of a developer left indexed, which the count and ids cannot.
+     */
+    private record Counts(long developers, long idChecksum, long versionChecksum) {
+
+        private static Counts of(List<DeveloperEntity> developers) {
+            return new Counts(developers.size(),
+                    developers.stream().mapToLong(DeveloperEntity::getId).sum(),
+                    developers.stream()
+                            .mapToLong(developer -> Objects.requireNonNullElse(developer.getVersion(), 0L))
+                            .sum());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.config.ReadReplicaRoutingDataSource;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.service.DeveloperService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpecialityIndexLoader {
+
+    private final SpecialityIndex specialityIndex;
+
+    private final DeveloperSearchIndex developerSearchIndex;
+
+    private final DeveloperAutocompleteIndex developerAutocompleteIndex;
+
+    private final DeveloperService developerService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Developer indexes were not built, lookups fall back to the database", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (event.type() == DeveloperChangeType.BULK_IMPORTED) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        specialityIndex.beginRebuild();
+        developerSearchIndex.beginRebuild();
+        developerAutocompleteIndex.beginRebuild();
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.usePrimary()) {
+            List<DeveloperEntity> developers = new ArrayList<>();
+            developerService.exportActiveDevelopers(developer -> developers.add(developer.toBuilder().build()));
+            specialityIndex.completeRebuild(developers);
+            developerSearchIndex.completeRebuild(developers);
+            developerAutocompleteIndex.completeRebuild(developers);
+            log.info("Developer indexes built with {} active developers, search uses ~{} KB, autocomplete ~{} KB",
+                    developers.size(), developerSearchIndex.estimatedBytes() / 1024,
+                    developerAutocompleteIndex.estimatedBytes() / 1024);
+        } catch (RuntimeException e) {
+            specialityIndex.abortRebuild();
+            developerSearchIndex.abortRebuild();
+            developerAutocompleteIndex.abortRebuild();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fallt.qafordevs.repository;
+
+import com.fallt.qafordevs.entity.DeveloperArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeveloperArchiveRepository extends JpaRepository<DeveloperArchiveEntity, Integer> {
+
+    @Transactional(readOnly = true)
+    List<DeveloperArchiveEntity> findAllByEmailOrderByArchivedAtDesc(String email);
+
+    @Modifying
+    @Query("INSERT INTO DeveloperArchiveEntity (id, email, firstName, lastName, speciality, version, deletedAt, archivedAt) " +
+            "SELECT d.id, d.email, d.firstName, d.lastName, d.speciality, d.version, d.updatedAt, ?2 " +
+            "FROM DeveloperEntity d WHERE d.id IN ?1")
+    int copyFromDevelopers(Collection<Integer> ids, Instant archivedAt);
+}
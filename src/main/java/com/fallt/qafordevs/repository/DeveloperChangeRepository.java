@@ -0,0 +1,37 @@
+package com.fallt.qafordevs.repository;
+
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface DeveloperChangeRepository extends JpaRepository<DeveloperChangeEntity, Long> {
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM DeveloperChangeEntity c WHERE c.id > ?1 ORDER BY c.id")
+    List<DeveloperChangeEntity> findAfter(long afterId, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM DeveloperChangeEntity c WHERE c.id > ?1 AND c.id <= ?2 ORDER BY c.id")
+    List<DeveloperChangeEntity> findBetween(long afterId, long upToId, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT coalesce(max(c.id), 0) FROM DeveloperChangeEntity c")
+    long findLastId();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c.developerId FROM DeveloperChangeEntity c " +
+            "WHERE c.type = com.fallt.qafordevs.event.DeveloperChangeType.HARD_DELETED " +
+            "AND c.occurredAt > ?1 AND c.occurredAt <= ?2")
+    List<Integer> findHardDeletedBetween(Instant occurredAfter, Instant occurredUpTo);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeveloperChangeEntity c WHERE c.occurredAt < ?1")
+    int deleteOlderThan(Instant occurredBefore);
+}
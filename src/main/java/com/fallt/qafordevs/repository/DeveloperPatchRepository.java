@@ -0,0 +1,14 @@
+package com.fallt.qafordevs.repository;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+
+public interface DeveloperPatchRepository {
+
+    /**
+     * Updates only the columns whose value is set in {@code changes} and increments the version, checking it first
+     * when {@code changes} carries one.
+     *
+     * @return the number of updated rows
+     */
+    int patchDeveloper(Integer id, DeveloperEntity changes);
+}
@@ -0,0 +1,43 @@
+package com.fallt.qafordevs.repository;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DeveloperPatchRepositoryImpl implements DeveloperPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patchDeveloper(Integer id, DeveloperEntity changes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<DeveloperEntity> update = builder.createCriteriaUpdate(DeveloperEntity.class);
+        Root<DeveloperEntity> developer = update.from(DeveloperEntity.class);
+        setIfPresent(update, "email", changes.getEmail());
+        setIfPresent(update, "firstName", changes.getFirstName());
+        setIfPresent(update, "lastName", changes.getLastName());
+        setIfPresent(update, "speciality", changes.getSpeciality());
+        setIfPresent(update, "status", changes.getStatus());
+        setIfPresent(update, "updatedAt", changes.getUpdatedAt());
+        update.set(developer.<Long>get("version"), builder.sum(developer.get("version"), 1L));
+        Predicate byId = builder.equal(developer.get("id"), id);
+        update.where(changes.getVersion() == null
+                ? byId
+                : builder.and(byId, builder.equal(developer.get("version"), changes.getVersion())));
+        entityManager.flush();
+        int updatedRows = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updatedRows;
+    }
+
+    private static void setIfPresent(CriteriaUpdate<DeveloperEntity> update, String attribute, Object value) {
+        if (value != null) {
+            update.set(attribute, value);
+        }
+    }
+}
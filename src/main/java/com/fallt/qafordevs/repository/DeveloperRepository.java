@@ -1,16 +1,101 @@
 package com.fallt.qafordevs.repository;
 
 import com.fallt.qafordevs.entity.DeveloperEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface DeveloperRepository extends JpaRepository<DeveloperEntity, Integer> {
+public interface DeveloperRepository extends JpaRepository<DeveloperEntity, Integer>, DeveloperPatchRepository {
+
+    /**
+     * Constructor expression for read paths: the rows come back as plain {@link DeveloperEntity} instances that
+     * Hibernate neither registers in the persistence context nor snapshots for dirty checking.
+     */
+    String SELECT_UNMANAGED = "SELECT new com.fallt.qafordevs.entity.DeveloperEntity(" +
+            "d.id, d.email, d.firstName, d.lastName, d.speciality, d.status, d.version, d.updatedAt) ";
 
     Optional<DeveloperEntity> findByEmail(String email);
 
-    @Query("SELECT d FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND d.speciality = ?1")
+    @Query("SELECT d.email FROM DeveloperEntity d WHERE d.email IN ?1")
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_UNMANAGED + "FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND d.speciality = ?1")
     List<DeveloperEntity> findAllActiveBySpeciality(String speciality);
+
+    @Query("SELECT d.speciality AS speciality, count(d) AS developers, coalesce(sum(d.id), 0) AS idChecksum, " +
+            "coalesce(sum(d.version), 0) AS versionChecksum " +
+            "FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND d.speciality IS NOT NULL GROUP BY d.speciality")
+    List<SpecialityCount> countActiveBySpeciality();
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_UNMANAGED + "FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND d.id > ?1 ORDER BY d.id")
+    List<DeveloperEntity> findActivePage(Integer afterId, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_UNMANAGED + "FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND (" +
+            "lower(d.firstName) LIKE ?1 ESCAPE '\\' OR lower(d.lastName) LIKE ?1 ESCAPE '\\' " +
+            "OR lower(d.email) LIKE ?1 ESCAPE '\\' OR lower(d.speciality) LIKE ?1 ESCAPE '\\') ORDER BY d.id")
+    List<DeveloperEntity> searchActive(String pattern, Limit limit);
+
+    /**
+     * Keyset page over every row, deleted ones included, changed after {@code (updatedAfter, afterId)} and no later
+     * than {@code updatedUpTo}, in {@code (updatedAt, id)} order.
+     */
+    @Transactional(readOnly = true)
+    @Query(SELECT_UNMANAGED + "FROM DeveloperEntity d WHERE (d.updatedAt > ?1 OR (d.updatedAt = ?1 AND d.id > ?2)) " +
+            "AND d.updatedAt <= ?3 ORDER BY d.updatedAt, d.id")
+    List<DeveloperEntity> findChangedPage(Instant updatedAfter, Integer afterId, Instant updatedUpTo, Limit limit);
+
+    /**
+     * Locks the ids of the next soft-deleted rows last changed before {@code deletedBefore}, skipping rows another
+     * transaction holds so that archival never waits on them.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_LOCK_MODE, value = "upgrade-skiplocked"))
+    @Query("SELECT d.id FROM DeveloperEntity d " +
+            "WHERE d.status = com.fallt.qafordevs.entity.Status.DELETED AND d.updatedAt < ?1 ORDER BY d.id")
+    List<Integer> lockArchivable(Instant deletedBefore, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM DeveloperEntity d WHERE d.status = 'ACTIVE' ORDER BY d.id")
+    Stream<DeveloperEntity> streamAllActive();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperEntity d SET d.email = :#{#developer.email}, d.firstName = :#{#developer.firstName}, " +
+            "d.lastName = :#{#developer.lastName}, d.speciality = :#{#developer.speciality}, " +
+            "d.status = :#{#developer.status}, d.version = d.version + 1, d.updatedAt = :#{#developer.updatedAt} " +
+            "WHERE d.id = :#{#developer.id} AND d.version = coalesce(:#{#developer.version}, d.version)")
+    int updateDeveloper(@Param("developer") DeveloperEntity developer);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperEntity d SET d.status = com.fallt.qafordevs.entity.Status.DELETED, " +
+            "d.version = d.version + 1, d.updatedAt = ?2 WHERE d.id = ?1")
+    int softDeleteById(Integer id, Instant updatedAt);
+
+    @Query("SELECT d.version FROM DeveloperEntity d WHERE d.id = ?1")
+    Long findVersionById(Integer id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DeveloperEntity d WHERE d.id = ?1")
+    int hardDeleteById(Integer id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DeveloperEntity d WHERE d.id IN ?1 AND d.status = com.fallt.qafordevs.entity.Status.DELETED")
+    int deleteArchived(Collection<Integer> ids);
 }
@@ -0,0 +1,43 @@
+package com.fallt.qafordevs.repository;
+
+import com.fallt.qafordevs.entity.DeveloperRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface ReactiveDeveloperRepository extends ReactiveCrudRepository<DeveloperRow, Integer> {
+
+    @Query("SELECT nextval('developers_seq')")
+    Mono<Long> nextIdBlock();
+
+    @Query("SELECT nextval('developer_changes_seq')")
+    Mono<Long> nextChangeId();
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE' AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<DeveloperRow> findActivePage(Integer afterId, int limit);
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE' AND speciality = :speciality ORDER BY id")
+    Flux<DeveloperRow> findAllActiveBySpeciality(String speciality);
+
+    @Modifying
+    @Query("UPDATE developers SET email = :email, first_name = :firstName, last_name = :lastName, " +
+            "speciality = :speciality, status = :status, version = version + 1, updated_at = :updatedAt " +
+            "WHERE id = :id AND version = coalesce(:version, version)")
+    Mono<Integer> updateDeveloper(Integer id, String email, String firstName, String lastName, String speciality,
+                                  String status, Long version, Instant updatedAt);
+
+    @Modifying
+    @Query("UPDATE developers SET status = 'DELETED', version = version + 1, updated_at = :updatedAt WHERE id = :id")
+    Mono<Integer> softDeleteById(Integer id, Instant updatedAt);
+
+    @Query("SELECT version FROM developers WHERE id = :id")
+    Mono<Long> findVersionById(Integer id);
+
+    @Modifying
+    @Query("DELETE FROM developers WHERE id = :id")
+    Mono<Integer> hardDeleteById(Integer id);
+}
@@ -0,0 +1,12 @@
+package com.fallt.qafordevs.repository;
+
+public interface SpecialityCount {
+
+    String getSpeciality();
+
+    long getDevelopers();
+
+    long getIdChecksum();
+
+    long getVersionChecksum();
+}
@@ -0,0 +1,34 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.dto.ArchiveRunDto;
+import com.fallt.qafordevs.dto.ArchivedDeveloperDto;
+import com.fallt.qafordevs.service.DeveloperArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/developers/archive")
+public class DeveloperArchiveControllerV1 {
+
+    private final DeveloperArchiveService developerArchiveService;
+
+    @GetMapping("/{id}")
+    public ArchivedDeveloperDto getArchivedDeveloperById(@PathVariable("id") Integer id) {
+        return ArchivedDeveloperDto.toDto(developerArchiveService.getArchivedById(id));
+    }
+
+    @GetMapping
+    public List<ArchivedDeveloperDto> getArchivedDevelopersByEmail(@RequestParam("email") String email) {
+        return ArchivedDeveloperDto.toListDto(developerArchiveService.getArchivedByEmail(email));
+    }
+
+    @PostMapping("/run")
+    public ArchiveRunDto archiveDeletedDevelopers() {
+        return ArchiveRunDto.builder()
+                .archived(developerArchiveService.archiveDeleted())
+                .build();
+    }
+}
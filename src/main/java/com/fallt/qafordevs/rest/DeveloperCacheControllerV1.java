@@ -0,0 +1,29 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.cache.DeveloperCache;
+import com.fallt.qafordevs.cache.SpecialityResponseCache;
+import com.fallt.qafordevs.dto.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/developers/cache")
+public class DeveloperCacheControllerV1 {
+
+    private final DeveloperCache developerCache;
+
+    private final SpecialityResponseCache specialityResponseCache;
+
+    @GetMapping("/stats")
+    public List<CacheStatsDto> getCacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>(developerCache.stats());
+        stats.add(specialityResponseCache.stats());
+        return stats;
+    }
+}
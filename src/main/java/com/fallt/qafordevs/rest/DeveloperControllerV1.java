@@ -1,12 +1,27 @@
 package com.fallt.qafordevs.rest;
 
+import com.fallt.qafordevs.cache.SpecialityResponseCache;
+import com.fallt.qafordevs.cache.SpecialityResponseCache.EncodedResponse;
+import com.fallt.qafordevs.dto.CompletionDto;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.DeveloperChangesDto;
 import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.dto.DeveloperPageDto;
+import com.fallt.qafordevs.dto.DeveloperSyncWatermark;
 import com.fallt.qafordevs.entity.DeveloperEntity;
 import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.service.DeveloperWriteBehindQueue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,13 +30,27 @@ public class DeveloperControllerV1 {
 
     private final DeveloperService developerService;
 
+    private final SpecialityResponseCache specialityResponseCache;
+
+    private final DeveloperWriteBehindQueue developerWriteBehindQueue;
+
     @PostMapping
     public DeveloperDto createDeveloper(@RequestBody DeveloperDto dto) {
         DeveloperEntity entity = dto.toEntity();
-        DeveloperEntity createdDeveloper = developerService.saveDeveloper(entity);
+        DeveloperEntity createdDeveloper = developerWriteBehindQueue.isEnabled()
+                ? developerWriteBehindQueue.save(entity)
+                : developerService.saveDeveloper(entity);
         return DeveloperDto.toDto(createdDeveloper);
     }
 
+    @PostMapping("/batch")
+    public List<DeveloperBatchResultDto> createDevelopers(@RequestBody List<DeveloperDto> dtos) {
+        List<DeveloperEntity> entities = dtos.stream()
+                .map(DeveloperDto::toEntity)
+                .toList();
+        return developerService.saveDevelopers(entities);
+    }
+
     @PutMapping
     public DeveloperDto updateDeveloper(@RequestBody DeveloperDto dto) {
         DeveloperEntity entity = dto.toEntity();
@@ -29,24 +58,121 @@ public class DeveloperControllerV1 {
         return DeveloperDto.toDto(updatedEntity);
     }
 
+    @PatchMapping("/{id}")
+    public DeveloperDto patchDeveloper(@PathVariable("id") Integer id, @RequestBody DeveloperDto dto) {
+        DeveloperEntity changes = dto.toEntity();
+        DeveloperEntity patchedEntity = developerService.patchDeveloper(id, changes);
+        return DeveloperDto.toDto(patchedEntity);
+    }
+
     @GetMapping("/{id}")
-    public DeveloperDto getDeveloperById(@PathVariable("id") Integer id) {
+    public DeveloperDto getDeveloperById(@PathVariable("id") Integer id, WebRequest request) {
         DeveloperEntity entity = developerService.getDeveloperById(id);
+        if (entity.getVersion() != null && request.checkNotModified(String.valueOf(entity.getVersion()))) {
+            return null;
+        }
         return DeveloperDto.toDto(entity);
     }
 
     @GetMapping
-    public List<DeveloperDto> getAllDevelopers() {
-        List<DeveloperEntity> entities = developerService.getAllDevelopers();
-        return DeveloperDto.toListDto(entities);
+    public DeveloperPageDto getAllDevelopers(@RequestParam(value = "afterId", required = false) Integer afterId,
+                                             @RequestParam(value = "size", defaultValue = "20") int size) {
+        List<DeveloperEntity> entities = developerService.getAllDevelopers(afterId, size);
+        Integer nextCursor = entities.isEmpty() || entities.size() < DeveloperService.pageSize(size)
+                ? null
+                : entities.get(entities.size() - 1).getId();
+        return DeveloperPageDto.builder()
+                .content(DeveloperDto.toListDto(entities))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @GetMapping("/changes")
+    public DeveloperChangesDto getChanges(@RequestParam(value = "since", required = false) String since,
+                                          @RequestParam(value = "size", defaultValue = "500") int size) {
+        return developerService.getChangesSince(since == null ? null : DeveloperSyncWatermark.parse(since), size);
     }
 
     @GetMapping("/speciality/{speciality}")
-    public List<DeveloperDto> getAllDevelopersBySpeciality(@PathVariable String speciality) {
-        List<DeveloperEntity> entities = developerService.getAllActiveBySpeciality(speciality);
+    public ResponseEntity<byte[]> getAllDevelopersBySpeciality(@PathVariable String speciality,
+                                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                               WebRequest request) {
+        Optional<String> version = developerService.getAllActiveBySpecialityVersion(speciality);
+        if (version.isPresent() && request.checkNotModified(version.get())) {
+            return null;
+        }
+        Supplier<List<DeveloperDto>> body = () -> DeveloperDto.toListDto(developerService.getAllActiveBySpeciality(speciality));
+        EncodedResponse response = version
+                .map(currentVersion -> specialityResponseCache.get(speciality, currentVersion, body))
+                .orElseGet(() -> specialityResponseCache.uncached(body.get()));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    /**
+     * Reads the q-values of {@code Accept-Encoding}: gzip is sent when it, or {@code *} if gzip is not listed, has a
+     * weight above zero.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipWeight = null;
+        Double wildcardWeight = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double weight = weight(parameters);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipWeight = gzipWeight == null ? weight : Math.max(gzipWeight, weight);
+            } else if (name.equals("*")) {
+                wildcardWeight = weight;
+            }
+        }
+        if (gzipWeight != null) {
+            return gzipWeight > 0;
+        }
+        return wildcardWeight != null && wildcardWeight > 0;
+    }
+
+    private static double weight(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @GetMapping("/search")
+    public List<DeveloperDto> searchDevelopers(@RequestParam("q") String query,
+                                              @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<DeveloperEntity> entities = developerService.searchDevelopers(query, limit);
         return DeveloperDto.toListDto(entities);
     }
 
+    @GetMapping("/autocomplete/names")
+    public List<CompletionDto> completeNames(@RequestParam("prefix") String prefix,
+                                             @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return CompletionDto.toListDto(developerService.completeNames(prefix, limit));
+    }
+
+    @GetMapping("/autocomplete/specialities")
+    public List<CompletionDto> completeSpecialities(@RequestParam("prefix") String prefix,
+                                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return CompletionDto.toListDto(developerService.completeSpecialities(prefix, limit));
+    }
+
     @DeleteMapping("/{id}")
     public void deleteDeveloperById(@PathVariable Integer id, @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
         if (isHard) {
@@ -0,0 +1,67 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.service.ReactiveDeveloperService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v2/developers")
+public class DeveloperControllerV2 {
+
+    private final ReactiveDeveloperService developerService;
+
+    @PostMapping
+    public Mono<DeveloperDto> createDeveloper(@RequestBody DeveloperDto dto) {
+        return developerService.saveDeveloper(dto.toEntity())
+                .map(DeveloperDto::toDto);
+    }
+
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DeveloperBatchResultDto> createDevelopers(@RequestBody List<DeveloperDto> dtos) {
+        List<DeveloperEntity> entities = dtos.stream()
+                .map(DeveloperDto::toEntity)
+                .toList();
+        return developerService.saveDevelopers(entities);
+    }
+
+    @PutMapping
+    public Mono<DeveloperDto> updateDeveloper(@RequestBody DeveloperDto dto) {
+        return developerService.updateDeveloper(dto.toEntity())
+                .map(DeveloperDto::toDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<DeveloperDto> getDeveloperById(@PathVariable("id") Integer id) {
+        return developerService.getDeveloperById(id)
+                .map(DeveloperDto::toDto);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DeveloperDto> getAllDevelopers(@RequestParam(value = "afterId", required = false) Integer afterId,
+                                               @RequestParam(value = "size", defaultValue = "20") int size) {
+        return developerService.getAllDevelopers(afterId, size)
+                .map(DeveloperDto::toDto);
+    }
+
+    @GetMapping(value = "/speciality/{speciality}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DeveloperDto> getAllDevelopersBySpeciality(@PathVariable String speciality) {
+        return developerService.getAllActiveBySpeciality(speciality)
+                .map(DeveloperDto::toDto);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteDeveloperById(@PathVariable Integer id,
+                                          @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
+        return isHard ? developerService.hardDeleteById(id) : developerService.softDeleteById(id);
+    }
+}
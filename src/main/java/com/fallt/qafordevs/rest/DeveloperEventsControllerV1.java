@@ -0,0 +1,27 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.service.DeveloperChangeFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/developers/events")
+public class DeveloperEventsControllerV1 {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final DeveloperChangeFeed developerChangeFeed;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(value = "since", required = false) Long since,
+                                    @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        return developerChangeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.dto.ImportReportDto;
+import com.fallt.qafordevs.service.DeveloperImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/developers/import")
+public class DeveloperImportControllerV1 {
+
+    private final DeveloperImportService developerImportService;
+
+    @PostMapping(consumes = "text/csv")
+    public ImportReportDto importDevelopers(InputStream csv) throws IOException {
+        return developerImportService.importCsv(csv);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.exeption.InvalidImportFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class CsvRecordReader {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    List<String> readRecord() throws IOException {
+        int next = reader.read();
+        while (next == '\r' || next == '\n') {
+            next = reader.read();
+        }
+        if (next == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        while (true) {
+            if (inQuotes) {
+                if (next == -1) {
+                    throw new InvalidImportFileException("Unterminated quoted field in CSV");
+                }
+                if (next == QUOTE) {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        inQuotes = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) next);
+                }
+            } else if (next == QUOTE && field.isEmpty() && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else if (next == SEPARATOR) {
+                fields.add(toValue(field, quoted));
+                field.setLength(0);
+                quoted = false;
+            } else if (next == '\r' || next == '\n' || next == -1) {
+                if (next == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(toValue(field, quoted));
+                return fields;
+            } else {
+                field.append((char) next);
+            }
+            next = reader.read();
+        }
+    }
+
+    private String toValue(StringBuilder field, boolean quoted) {
+        if (!quoted && field.isEmpty()) {
+            return null;
+        }
+        return field.toString();
+    }
+}
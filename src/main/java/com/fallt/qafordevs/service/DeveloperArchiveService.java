@@ -0,0 +1,14 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.entity.DeveloperArchiveEntity;
+
+import java.util.List;
+
+public interface DeveloperArchiveService {
+
+    int archiveDeleted();
+
+    DeveloperArchiveEntity getArchivedById(Integer id);
+
+    List<DeveloperArchiveEntity> getArchivedByEmail(String email);
+}
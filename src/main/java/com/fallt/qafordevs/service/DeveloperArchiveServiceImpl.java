@@ -0,0 +1,121 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperArchiveProperties;
+import com.fallt.qafordevs.config.DeveloperChangeFeedProperties;
+import com.fallt.qafordevs.entity.DeveloperArchiveEntity;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.repository.DeveloperArchiveRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves soft-deleted developers past their retention period into {@code developers_archive}. Each chunk is its own
+ * short transaction that only locks rows nobody else holds, so hot rows are never waited on.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeveloperArchiveServiceImpl implements DeveloperArchiveService, MeterBinder {
+
+    private final DeveloperRepository developerRepository;
+
+    private final DeveloperArchiveRepository developerArchiveRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DeveloperArchiveProperties properties;
+
+    private final DeveloperChangeFeedProperties changeFeedProperties;
+
+    private final LongAdder archived = new LongAdder();
+
+    private volatile DistributionSummary archivedPerRun;
+
+    @Scheduled(fixedDelayString = "${app.archive.developers.interval:PT1H}",
+            initialDelayString = "${app.archive.developers.interval:PT1H}")
+    public void archiveOnSchedule() {
+        if (properties.isEnabled()) {
+            archiveDeleted();
+        }
+    }
+
+    @Override
+    public int archiveDeleted() {
+        Instant deletedBefore = Instant.now().minus(retention());
+        int moved = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            int movedInChunk = Objects.requireNonNull(transactionTemplate.execute(status -> archiveChunk(deletedBefore)));
+            moved += movedInChunk;
+            if (movedInChunk < properties.getChunkSize()) {
+                break;
+            }
+        }
+        archived.add(moved);
+        DistributionSummary summary = archivedPerRun;
+        if (summary != null) {
+            summary.record(moved);
+        }
+        if (moved > 0) {
+            log.info("Archived {} developers deleted before {}", moved, deletedBefore);
+        }
+        return moved;
+    }
+
+    @Override
+    public DeveloperArchiveEntity getArchivedById(Integer id) {
+        return developerArchiveRepository.findById(id)
+                .orElseThrow(() -> new DeveloperNotFoundException(
+                        MessageFormat.format("Archived developer with ID: {0} not found", id)));
+    }
+
+    @Override
+    public List<DeveloperArchiveEntity> getArchivedByEmail(String email) {
+        return developerArchiveRepository.findAllByEmailOrderByArchivedAtDesc(email);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("developer.archive.rows", archived, LongAdder::sum)
+                .description("Soft-deleted developers moved to the archive table")
+                .register(registry);
+        archivedPerRun = DistributionSummary.builder("developer.archive.run.rows")
+                .description("Soft-deleted developers moved to the archive table per archival run")
+                .register(registry);
+    }
+
+    private int archiveChunk(Instant deletedBefore) {
+        List<Integer> ids = developerRepository.lockArchivable(deletedBefore, Limit.of(properties.getChunkSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        developerArchiveRepository.copyFromDevelopers(ids, DeveloperEntity.currentTimestamp());
+        return developerRepository.deleteArchived(ids);
+    }
+
+    /**
+     * A delta sync client may still be owed the tombstone of a row deleted within the change feed retention, so
+     * rows are kept at least that long.
+     */
+    private Duration retention() {
+        Duration retention = properties.getRetention();
+        Duration changeFeedRetention = changeFeedProperties.getRetention();
+        return retention.compareTo(changeFeedRetention) >= 0 ? retention : changeFeedRetention;
+    }
+}
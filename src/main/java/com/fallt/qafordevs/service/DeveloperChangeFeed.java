@@ -0,0 +1,363 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperChangeFeedProperties;
+import com.fallt.qafordevs.dto.DeveloperChangeDto;
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Streams the developer outbox to Server-Sent Events subscribers. A single tailer thread reads new rows in
+ * sequence order and hands them to every subscriber's queue, so the database sees one query per poll however
+ * many clients listen. Recent changes stay in memory for subscribers resuming from a recent sequence number;
+ * older ones are read from the outbox once for that subscriber. A subscriber whose queue overflows is
+ * disconnected and can resume with {@code Last-Event-ID}.
+ * <p>
+ * Sequence numbers are handed out before commit, so a lower number can become visible after a higher one.
+ * The tailer stops at such a gap and only skips it, as a rolled back change, after {@code gapTimeout}. That is
+ * only safe while no writer can commit later than that, so the feed refuses to start unless the gap timeout is
+ * longer than the transaction timeout.
+ */
+@Slf4j
+@Component
+public class DeveloperChangeFeed implements SmartLifecycle, MeterBinder {
+
+    private final DeveloperChangeRepository developerChangeRepository;
+
+    private final DeveloperChangeFeedProperties properties;
+
+    private final AbstractPlatformTransactionManager transactionManager;
+
+    private final Object lock = new Object();
+
+    private final ArrayDeque<DeveloperChangeDto> recent = new ArrayDeque<>();
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private volatile long lastSequence;
+
+    private long gapSince;
+
+    private volatile boolean running;
+
+    private volatile Thread tailer;
+
+    public DeveloperChangeFeed(DeveloperChangeRepository developerChangeRepository,
+                               DeveloperChangeFeedProperties properties,
+                               AbstractPlatformTransactionManager transactionManager) {
+        this.developerChangeRepository = developerChangeRepository;
+        this.properties = properties;
+        this.transactionManager = transactionManager;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public int subscribers() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Streams every change after {@code since}, or only new changes when it is {@code null}.
+     */
+    public SseEmitter subscribe(Long since) {
+        return subscribe(since, new SseEmitter());
+    }
+
+    SseEmitter subscribe(Long since, SseEmitter emitter) {
+        Subscription subscription;
+        synchronized (lock) {
+            long from = since == null ? lastSequence : Math.max(0, Math.min(since, lastSequence));
+            subscription = new Subscription(emitter, from);
+            List<DeveloperChangeDto> backlog = buffered(from);
+            if (backlog == null) {
+                subscription.catchUpTo = lastSequence;
+            } else {
+                subscription.queue.addAll(backlog);
+            }
+            subscriptions.add(subscription);
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        subscription.thread = Thread.ofVirtual().name("developer-change-subscriber").start(subscription);
+        return emitter;
+    }
+
+    /**
+     * Returns the buffered changes after {@code from}, or {@code null} when the buffer does not reach back that
+     * far or holds more than a subscriber queue.
+     */
+    private List<DeveloperChangeDto> buffered(long from) {
+        long bufferedFrom = recent.isEmpty() ? lastSequence : recent.peekFirst().getSequence() - 1;
+        if (from < bufferedFrom) {
+            return null;
+        }
+        List<DeveloperChangeDto> backlog = new ArrayList<>();
+        Iterator<DeveloperChangeDto> newestFirst = recent.descendingIterator();
+        while (newestFirst.hasNext()) {
+            DeveloperChangeDto change = newestFirst.next();
+            if (change.getSequence() <= from) {
+                break;
+            }
+            if (backlog.size() == properties.getSubscriberQueueCapacity()) {
+                return null;
+            }
+            backlog.add(change);
+        }
+        Collections.reverse(backlog);
+        return backlog;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        Thread current = tailer;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.purge-interval:PT1H}",
+            initialDelayString = "${app.change-feed.purge-interval:PT1H}")
+    public void purge() {
+        int purged = developerChangeRepository.deleteOlderThan(Instant.now().minus(properties.getRetention()));
+        if (purged > 0) {
+            log.info("Purged {} developer changes older than {}", purged, properties.getRetention());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("developer.change.feed.subscribers", this, DeveloperChangeFeed::subscribers)
+                .description("Open developer change feed subscriptions")
+                .register(registry);
+        Gauge.builder("developer.change.feed.sequence", this, DeveloperChangeFeed::lastSequence)
+                .description("Sequence number of the last change handed to subscribers")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        checkGapTimeout();
+        lastSequence = developerChangeRepository.findLastId();
+        running = true;
+        tailer = Thread.ofPlatform().name("developer-change-tailer").daemon().start(this::tail);
+    }
+
+    private void checkGapTimeout() {
+        int transactionTimeout = transactionManager.getDefaultTimeout();
+        if (transactionTimeout == TransactionDefinition.TIMEOUT_DEFAULT
+                || properties.getGapTimeout().compareTo(Duration.ofSeconds(transactionTimeout)) <= 0) {
+            throw new IllegalStateException(MessageFormat.format(
+                    "app.change-feed.gap-timeout {0} must be longer than spring.transaction.default-timeout {1}s",
+                    properties.getGapTimeout(), transactionTimeout));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(tailer);
+        try {
+            tailer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        tailer = null;
+        subscriptions.forEach(Subscription::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tail() {
+        while (running) {
+            boolean more = false;
+            try {
+                more = poll();
+            } catch (RuntimeException e) {
+                log.warn("Developer change feed poll failed", e);
+            }
+            if (!more && running) {
+                LockSupport.parkNanos(this, properties.getPollInterval().toNanos());
+            }
+        }
+    }
+
+    /**
+     * Hands the next committed changes to the subscribers and returns whether more may be waiting.
+     */
+    boolean poll() {
+        int batchSize = properties.getPollBatchSize();
+        List<DeveloperChangeEntity> rows = developerChangeRepository.findAfter(lastSequence, Limit.of(batchSize));
+        List<DeveloperChangeDto> changes = new ArrayList<>(rows.size());
+        long next = lastSequence;
+        for (DeveloperChangeEntity row : rows) {
+            if (row.getId() != next + 1) {
+                if (!gapExpired()) {
+                    break;
+                }
+                log.warn("Skipping developer changes {} to {} that did not commit within {}",
+                        next + 1, row.getId() - 1, properties.getGapTimeout());
+            }
+            gapSince = 0;
+            changes.add(DeveloperChangeDto.toDto(row));
+            next = row.getId();
+        }
+        if (!changes.isEmpty()) {
+            publish(changes, next);
+        }
+        return rows.size() == batchSize && changes.size() == rows.size();
+    }
+
+    private boolean gapExpired() {
+        long now = System.nanoTime();
+        if (gapSince == 0) {
+            gapSince = now;
+        }
+        return now - gapSince >= properties.getGapTimeout().toNanos();
+    }
+
+    private void publish(List<DeveloperChangeDto> changes, long next) {
+        synchronized (lock) {
+            for (DeveloperChangeDto change : changes) {
+                recent.addLast(change);
+                if (recent.size() > properties.getBufferSize()) {
+                    recent.removeFirst();
+                }
+            }
+            lastSequence = next;
+            for (Subscription subscription : subscriptions) {
+                for (DeveloperChangeDto change : changes) {
+                    if (!subscription.queue.offer(change)) {
+                        log.debug("Disconnecting developer change feed subscriber that fell behind");
+                        subscription.close();
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<DeveloperChangeDto> queue;
+
+        private long sentUpTo;
+
+        private long catchUpTo;
+
+        private volatile boolean closed;
+
+        private volatile Thread thread;
+
+        private Subscription(SseEmitter emitter, long from) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.getSubscriberQueueCapacity());
+            this.sentUpTo = from;
+            this.catchUpTo = from;
+        }
+
+        @Override
+        public void run() {
+            try {
+                emitter.send(SseEmitter.event().comment("subscribed"));
+                catchUp();
+                long heartbeatNanos = properties.getHeartbeatInterval().toNanos();
+                while (!closed) {
+                    DeveloperChangeDto change = queue.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                    if (change == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        send(change);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                log.debug("Developer change feed subscriber disconnected: {}", e.getMessage());
+            } finally {
+                closed = true;
+                subscriptions.remove(this);
+                try {
+                    emitter.complete();
+                } catch (RuntimeException ignored) {
+                    // the response is already gone
+                }
+            }
+        }
+
+        private void catchUp() throws IOException {
+            int batchSize = properties.getPollBatchSize();
+            while (!closed && sentUpTo < catchUpTo) {
+                List<DeveloperChangeEntity> page = developerChangeRepository.findBetween(sentUpTo, catchUpTo, Limit.of(batchSize));
+                for (DeveloperChangeEntity change : page) {
+                    send(DeveloperChangeDto.toDto(change));
+                }
+                if (page.size() < batchSize) {
+                    return;
+                }
+            }
+        }
+
+        private void send(DeveloperChangeDto change) throws IOException {
+            if (change.getSequence() <= sentUpTo) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(change.getSequence()))
+                    .name(change.getType().name())
+                    .data(change, MediaType.APPLICATION_JSON));
+            sentUpTo = change.getSequence();
+        }
+
+        private void close() {
+            closed = true;
+            subscriptions.remove(this);
+            Thread current = thread;
+            if (current != null) {
+                current.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.dto.ImportReportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface DeveloperImportService {
+
+    ImportReportDto importCsv(InputStream csv) throws IOException;
+}
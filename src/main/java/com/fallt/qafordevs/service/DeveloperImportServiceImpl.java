@@ -0,0 +1,301 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperImportProperties;
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.ImportMode;
+import com.fallt.qafordevs.dto.ImportRejectReason;
+import com.fallt.qafordevs.dto.ImportRejectionDto;
+import com.fallt.qafordevs.dto.ImportReportDto;
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.exeption.InvalidImportFileException;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.util.PSQLException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class DeveloperImportServiceImpl implements DeveloperImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "email", "email",
+            "firstname", "first_name",
+            "lastname", "last_name",
+            "speciality", "speciality");
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMP TABLE developers_staging (
+                row_no BIGSERIAL PRIMARY KEY,
+                email VARCHAR(255),
+                first_name VARCHAR(255),
+                last_name VARCHAR(255),
+                speciality VARCHAR(255),
+                reject_reason VARCHAR(32)
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_INTO_STAGING = "COPY developers_staging ({0}) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MARK_REJECTED_ROWS = """
+            UPDATE developers_staging s
+            SET reject_reason = c.reason
+            FROM (SELECT row_no,
+                         CASE
+                             WHEN email IS NULL OR btrim(email) = '' THEN 'MISSING_EMAIL'
+                             WHEN row_number() OVER (PARTITION BY email ORDER BY row_no) > 1 THEN 'DUPLICATE_IN_FILE'
+                             WHEN EXISTS (SELECT 1 FROM developers d WHERE d.email = developers_staging.email)
+                                 THEN 'DUPLICATE_EMAIL'
+                         END AS reason
+                  FROM developers_staging) c
+            WHERE s.row_no = c.row_no
+              AND c.reason IS NOT NULL""";
+
+    private static final String COUNT_ACCEPTED_ROWS =
+            "SELECT count(*) FROM developers_staging WHERE reject_reason IS NULL";
+
+    private static final String MERGE_ACCEPTED_ROWS = """
+            WITH accepted AS (
+                SELECT email, first_name, last_name, speciality, row_number() OVER (ORDER BY row_no) AS position
+                FROM developers_staging
+                WHERE reject_reason IS NULL
+            ), blocks AS (
+                SELECT nextval('developers_seq') AS hi
+                FROM generate_series(1, ?)
+            ), ids AS (
+                SELECT id, row_number() OVER (ORDER BY id) AS position
+                FROM blocks CROSS JOIN LATERAL generate_series(greatest(blocks.hi - ? + 1, 1), blocks.hi) AS id
+            )
+            INSERT INTO developers (id, email, first_name, last_name, speciality, status, version, updated_at)
+            SELECT ids.id, a.email, a.first_name, a.last_name, a.speciality, 'ACTIVE', 0, ?
+            FROM accepted a
+            JOIN ids ON ids.position = a.position
+            ON CONFLICT ON CONSTRAINT uk_developers_email DO NOTHING""";
+
+    private static final String SELECT_REJECTED_ROWS = """
+            SELECT row_no, email, reject_reason
+            FROM developers_staging
+            WHERE reject_reason IS NOT NULL
+            ORDER BY row_no
+            LIMIT ?""";
+
+    private final DeveloperService developerService;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final DeveloperChangeRepository developerChangeRepository;
+
+    private final DeveloperImportProperties properties;
+
+    @Override
+    public ImportReportDto importCsv(InputStream csv) throws IOException {
+        long startedAt = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        CsvRecordReader records = new CsvRecordReader(reader);
+        List<String> columns = readHeader(records);
+        ImportReportDto report = isPostgres()
+                ? importWithCopy(reader, columns)
+                : importInBatches(records, columns);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        report.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.setRowsPerSecond(elapsedNanos == 0 ? 0 : report.getRowsRead() * 1_000_000_000.0 / elapsedNanos);
+        return report;
+    }
+
+    private List<String> readHeader(CsvRecordReader records) throws IOException {
+        List<String> header = records.readRecord();
+        if (header == null) {
+            throw new InvalidImportFileException("CSV file is empty");
+        }
+        List<String> columns = new ArrayList<>(header.size());
+        for (String name : header) {
+            String normalized = name == null ? "" : name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+            String column = COLUMNS.get(normalized);
+            if (column == null) {
+                throw new InvalidImportFileException(MessageFormat.format("Unknown CSV column: {0}", name));
+            }
+            if (columns.contains(column)) {
+                throw new InvalidImportFileException(MessageFormat.format("Duplicate CSV column: {0}", name));
+            }
+            columns.add(column);
+        }
+        if (!columns.contains("email")) {
+            throw new InvalidImportFileException("CSV file has no email column");
+        }
+        return columns;
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+    }
+
+    /**
+     * Streams the file under its own, longer transaction timeout. The outbox row is written afterwards in a
+     * short transaction of its own, so no change feed sequence number stays uncommitted for the whole import.
+     */
+    private ImportReportDto importWithCopy(BufferedReader reader, List<String> columns) {
+        TransactionTemplate importTransaction = new TransactionTemplate(
+                transactionTemplate.getTransactionManager(), transactionTemplate);
+        importTransaction.setTimeout((int) properties.getTransactionTimeout().toSeconds());
+        ImportReportDto report = importTransaction.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<ImportReportDto>) connection -> copyAndMerge(connection, reader, columns)));
+        if (report != null && report.getRowsImported() > 0) {
+            developerChangeRepository.save(DeveloperChangeEntity.bulkImported());
+            eventPublisher.publishEvent(DeveloperChangedEvent.bulkImported());
+        }
+        return report;
+    }
+
+    private ImportReportDto copyAndMerge(Connection connection, BufferedReader reader, List<String> columns)
+            throws SQLException {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        long rowsRead = copyIntoStaging(connection, reader, columns);
+        jdbcTemplate.execute("ANALYZE developers_staging");
+        jdbcTemplate.update(MARK_REJECTED_ROWS);
+        Long accepted = jdbcTemplate.queryForObject(COUNT_ACCEPTED_ROWS, Long.class);
+        long rowsImported = 0;
+        if (accepted != null && accepted > 0) {
+            long blocks = accepted / DeveloperEntity.ID_ALLOCATION_SIZE + 2;
+            rowsImported = jdbcTemplate.update(MERGE_ACCEPTED_ROWS, blocks, DeveloperEntity.ID_ALLOCATION_SIZE,
+                    OffsetDateTime.ofInstant(DeveloperEntity.currentTimestamp(), ZoneOffset.UTC));
+        }
+        List<ImportRejectionDto> rejections = jdbcTemplate.query(SELECT_REJECTED_ROWS,
+                (rs, rowNum) -> ImportRejectionDto.builder()
+                        .row(rs.getLong("row_no"))
+                        .email(rs.getString("email"))
+                        .reason(ImportRejectReason.valueOf(rs.getString("reject_reason")))
+                        .build(),
+                MAX_REPORTED_REJECTIONS);
+        return ImportReportDto.builder()
+                .mode(ImportMode.COPY)
+                .rowsRead(rowsRead)
+                .rowsImported(rowsImported)
+                .rowsRejected(rowsRead - rowsImported)
+                .rejections(rejections)
+                .build();
+    }
+
+    private long copyIntoStaging(Connection connection, BufferedReader reader, List<String> columns)
+            throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        try {
+            return copyManager.copyIn(MessageFormat.format(COPY_INTO_STAGING, String.join(", ", columns)), reader);
+        } catch (PSQLException e) {
+            if (e.getSQLState() != null && e.getSQLState().startsWith("22")) {
+                throw new InvalidImportFileException(e.getMessage());
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportReportDto importInBatches(CsvRecordReader records, List<String> columns) throws IOException {
+        ImportReportDto report = ImportReportDto.builder()
+                .mode(ImportMode.BATCH)
+                .rejections(new ArrayList<>())
+                .build();
+        Set<String> seenEmails = new HashSet<>();
+        List<DeveloperEntity> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Long> chunkRows = new ArrayList<>(CHUNK_SIZE);
+        long row = 0;
+        List<String> record;
+        while ((record = records.readRecord()) != null) {
+            row++;
+            DeveloperEntity developer = toEntity(record, columns);
+            if (developer.getEmail() == null || developer.getEmail().isBlank()) {
+                reject(report, row, developer.getEmail(), ImportRejectReason.MISSING_EMAIL);
+            } else if (!seenEmails.add(developer.getEmail())) {
+                reject(report, row, developer.getEmail(), ImportRejectReason.DUPLICATE_IN_FILE);
+            } else {
+                chunk.add(developer);
+                chunkRows.add(row);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                saveChunk(report, chunk, chunkRows);
+            }
+        }
+        saveChunk(report, chunk, chunkRows);
+        report.getRejections().sort(Comparator.comparing(ImportRejectionDto::getRow));
+        report.setRowsRead(row);
+        return report;
+    }
+
+    private DeveloperEntity toEntity(List<String> record, List<String> columns) {
+        DeveloperEntity developer = new DeveloperEntity();
+        for (int i = 0; i < columns.size() && i < record.size(); i++) {
+            String value = record.get(i);
+            switch (columns.get(i)) {
+                case "email" -> developer.setEmail(value);
+                case "first_name" -> developer.setFirstName(value);
+                case "last_name" -> developer.setLastName(value);
+                case "speciality" -> developer.setSpeciality(value);
+                default -> throw new IllegalStateException("Unexpected column: " + columns.get(i));
+            }
+        }
+        return developer;
+    }
+
+    private void saveChunk(ImportReportDto report, List<DeveloperEntity> chunk, List<Long> chunkRows) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<DeveloperBatchResultDto> results = developerService.saveDevelopers(List.copyOf(chunk));
+        for (DeveloperBatchResultDto result : results) {
+            if (result.getStatus() == BatchItemStatus.CREATED) {
+                report.setRowsImported(report.getRowsImported() + 1);
+            } else {
+                reject(report, chunkRows.get(result.getIndex()), result.getEmail(), ImportRejectReason.DUPLICATE_EMAIL);
+            }
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    private void reject(ImportReportDto report, long row, String email, ImportRejectReason reason) {
+        report.setRowsRejected(report.getRowsRejected() + 1);
+        if (report.getRejections().size() < MAX_REPORTED_REJECTIONS) {
+            report.getRejections().add(ImportRejectionDto.builder()
+                    .row(row)
+                    .email(email)
+                    .reason(reason)
+                    .build());
+        }
+    }
+}
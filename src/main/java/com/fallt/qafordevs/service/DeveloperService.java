@@ -1,23 +1,55 @@
 package com.fallt.qafordevs.service;
 
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.DeveloperChangesDto;
+import com.fallt.qafordevs.dto.DeveloperSyncWatermark;
 import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DeveloperService {
 
+    int MAX_PAGE_SIZE = 100;
+
+    static int pageSize(int requestedSize) {
+        return Math.max(1, Math.min(requestedSize, MAX_PAGE_SIZE));
+    }
+
     DeveloperEntity saveDeveloper(DeveloperEntity developer);
 
+    List<DeveloperBatchResultDto> saveDevelopers(List<DeveloperEntity> developers);
+
     DeveloperEntity updateDeveloper(DeveloperEntity developer);
 
+    DeveloperEntity patchDeveloper(Integer id, DeveloperEntity changes);
+
     DeveloperEntity getDeveloperById(Integer id);
 
     DeveloperEntity getDeveloperByEmail(String email);
 
-    List<DeveloperEntity> getAllDevelopers();
+    List<DeveloperEntity> getAllDevelopers(Integer afterId, int size);
 
     List<DeveloperEntity> getAllActiveBySpeciality(String speciality);
 
+    Optional<String> getAllActiveBySpecialityVersion(String speciality);
+
+    List<DeveloperEntity> searchDevelopers(String query, int limit);
+
+    List<Completion> completeNames(String prefix, int limit);
+
+    List<Completion> completeSpecialities(String prefix, int limit);
+
+    /**
+     * Returns the developers created, updated or deleted after {@code since}, or the first page of every developer
+     * when it is {@code null}, with the watermark to pass on the next call.
+     */
+    DeveloperChangesDto getChangesSince(DeveloperSyncWatermark since, int size);
+
+    void exportActiveDevelopers(Consumer<DeveloperEntity> consumer);
+
     void softDeleteById(Integer id);
 
     void hardDeleteById(Integer id);
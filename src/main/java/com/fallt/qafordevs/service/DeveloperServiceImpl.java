@@ -1,51 +1,210 @@
 package com.fallt.qafordevs.service;
 
+import com.fallt.qafordevs.cache.DeveloperCache;
+import com.fallt.qafordevs.config.DeveloperChangeFeedProperties;
+import com.fallt.qafordevs.config.DeveloperSyncProperties;
+import com.fallt.qafordevs.config.ReadReplicaRoutingDataSource;
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.DeveloperChangesDto;
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.dto.DeveloperSyncWatermark;
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
 import com.fallt.qafordevs.entity.DeveloperEntity;
 import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.exeption.DataIntegrityViolations;
 import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.exeption.DeveloperVersionConflictException;
 import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.exeption.SyncWatermarkExpiredException;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import com.fallt.qafordevs.index.DeveloperAutocompleteIndex;
+import com.fallt.qafordevs.index.DeveloperSearchIndex;
+import com.fallt.qafordevs.index.SpecialityIndex;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
 import com.fallt.qafordevs.repository.DeveloperRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "developer.service", histogram = true)
 public class DeveloperServiceImpl implements DeveloperService {
 
+    private static final int BATCH_SIZE = 50;
+
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
     private final DeveloperRepository developerRepository;
 
+    private final EntityManager entityManager;
+
+    private final DeveloperCache developerCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final SpecialityIndex specialityIndex;
+
+    private final DeveloperSearchIndex developerSearchIndex;
+
+    private final DeveloperAutocompleteIndex developerAutocompleteIndex;
+
+    private final DeveloperChangeRepository developerChangeRepository;
+
+    private final DeveloperSyncProperties syncProperties;
+
+    private final DeveloperChangeFeedProperties changeFeedProperties;
+
     @Override
+    @Transactional
     public DeveloperEntity saveDeveloper(DeveloperEntity developer) {
-        Optional<DeveloperEntity> duplicateCandidate = developerRepository.findByEmail(developer.getEmail());
-        if (duplicateCandidate.isPresent()) {
-            throw new DeveloperWithDuplicateEmailException(MessageFormat.format("Email {0} already use", developer.getEmail()));
-        }
+        developer.setId(null);
+        developer.setVersion(null);
         developer.setStatus(Status.ACTIVE);
-        return developerRepository.save(developer);
+        developer.setUpdatedAt(DeveloperEntity.currentTimestamp());
+        DeveloperEntity savedDeveloper;
+        try {
+            savedDeveloper = developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, developer.getEmail());
+        }
+        publish(DeveloperChangeType.CREATED, savedDeveloper);
+        return savedDeveloper;
     }
 
     @Override
+    @Transactional
+    public List<DeveloperBatchResultDto> saveDevelopers(List<DeveloperEntity> developers) {
+        Set<String> takenEmails = findExistingEmails(developers);
+        Instant updatedAt = DeveloperEntity.currentTimestamp();
+        List<DeveloperBatchResultDto> results = new ArrayList<>(developers.size());
+        int pending = 0;
+        for (int index = 0; index < developers.size(); index++) {
+            DeveloperEntity developer = developers.get(index);
+            if (!takenEmails.add(developer.getEmail())) {
+                results.add(DeveloperBatchResultDto.builder()
+                        .index(index)
+                        .email(developer.getEmail())
+                        .status(BatchItemStatus.DUPLICATE_EMAIL)
+                        .message(MessageFormat.format("Email {0} already use", developer.getEmail()))
+                        .build());
+                continue;
+            }
+            developer.setId(null);
+            developer.setVersion(null);
+            developer.setStatus(Status.ACTIVE);
+            developer.setUpdatedAt(updatedAt);
+            DeveloperEntity savedDeveloper = developerRepository.save(developer);
+            publish(DeveloperChangeType.CREATED, savedDeveloper);
+            results.add(DeveloperBatchResultDto.builder()
+                    .index(index)
+                    .id(savedDeveloper.getId())
+                    .email(savedDeveloper.getEmail())
+                    .status(BatchItemStatus.CREATED)
+                    .build());
+            if (++pending % BATCH_SIZE == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return results;
+    }
+
+    /**
+     * Flushes through the repository rather than the shared {@link EntityManager}, so an email taken by a
+     * concurrent insert surfaces as a translated {@link DataIntegrityViolationException}.
+     */
+    private void flushAndClear() {
+        developerRepository.flush();
+        entityManager.clear();
+    }
+
+    private Set<String> findExistingEmails(List<DeveloperEntity> developers) {
+        List<String> emails = developers.stream()
+                .map(DeveloperEntity::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<String> existingEmails = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size()));
+            existingEmails.addAll(developerRepository.findExistingEmails(chunk));
+        }
+        return existingEmails;
+    }
+
+    @Override
+    @Transactional
     public DeveloperEntity updateDeveloper(DeveloperEntity developer) {
-        boolean isExist = developerRepository.existsById(developer.getId());
-        if (!isExist) {
-            throw new DeveloperNotFoundException(MessageFormat.format("Developer with ID: {0} not found", developer.getId()));
+        developer.setUpdatedAt(DeveloperEntity.currentTimestamp());
+        int updatedRows;
+        try {
+            updatedRows = developerRepository.updateDeveloper(developer);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, developer.getEmail());
+        }
+        if (updatedRows == 0) {
+            throw notUpdated(developer);
+        }
+        DeveloperEntity updatedDeveloper = developerRepository.findById(developer.getId())
+                .orElseThrow(() -> notFound(developer.getId()));
+        publish(DeveloperChangeType.UPDATED, updatedDeveloper);
+        return updatedDeveloper;
+    }
+
+    @Override
+    @Transactional
+    public DeveloperEntity patchDeveloper(Integer id, DeveloperEntity changes) {
+        if (isEmptyPatch(changes)) {
+            return getDeveloperById(id);
         }
-        return developerRepository.save(developer);
+        changes.setUpdatedAt(DeveloperEntity.currentTimestamp());
+        int updatedRows;
+        try {
+            updatedRows = developerRepository.patchDeveloper(id, changes);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, changes.getEmail());
+        }
+        if (updatedRows == 0) {
+            throw notUpdated(changes.toBuilder().id(id).build());
+        }
+        DeveloperEntity patchedDeveloper = developerRepository.findById(id).orElseThrow(() -> notFound(id));
+        publish(DeveloperChangeType.UPDATED, patchedDeveloper);
+        return patchedDeveloper;
     }
 
     @Override
     public DeveloperEntity getDeveloperById(Integer id) {
-        return developerRepository.findById(id).orElseThrow(
-                () -> new DeveloperNotFoundException(MessageFormat.format("Developer with ID: {0} not found", id)));
+        return developerCache.findById(id, key -> fromPrimary(() -> developerRepository.findById(key)))
+                .orElseThrow(() -> notFound(id));
     }
 
     @Override
     public DeveloperEntity getDeveloperByEmail(String email) {
-        Optional<DeveloperEntity> obtainedDeveloper = developerRepository.findByEmail(email);
+        Optional<DeveloperEntity> obtainedDeveloper = developerCache.findByEmail(email,
+                key -> fromPrimary(() -> developerRepository.findByEmail(key)));
         if (obtainedDeveloper.isEmpty()) {
             throw new DeveloperNotFoundException(MessageFormat.format("Developer with email: {0} not found", email));
         }
@@ -53,27 +212,179 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
-    public List<DeveloperEntity> getAllDevelopers() {
-        return developerRepository.findAll().stream()
-                .filter(d -> d.getStatus().equals(Status.ACTIVE))
-                .toList();
+    public List<DeveloperEntity> getAllDevelopers(Integer afterId, int size) {
+        int pageSize = DeveloperService.pageSize(size);
+        int cursor = afterId == null ? 0 : afterId;
+        return developerRepository.findActivePage(cursor, Limit.of(pageSize));
     }
 
     @Override
     public List<DeveloperEntity> getAllActiveBySpeciality(String speciality) {
+        if (specialityIndex.isReady()) {
+            return specialityIndex.findBySpeciality(speciality);
+        }
         return developerRepository.findAllActiveBySpeciality(speciality);
     }
 
     @Override
+    public Optional<String> getAllActiveBySpecialityVersion(String speciality) {
+        if (specialityIndex.isReady()) {
+            return Optional.of(specialityIndex.versionOf(speciality));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<DeveloperEntity> searchDevelopers(String query, int limit) {
+        int size = DeveloperService.pageSize(limit);
+        if (developerSearchIndex.isReady()) {
+            return developerSearchIndex.search(query, size);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String pattern = "%" + query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return developerRepository.searchActive(pattern, Limit.of(size));
+    }
+
+    @Override
+    public List<Completion> completeNames(String prefix, int limit) {
+        return developerAutocompleteIndex.completeNames(prefix, DeveloperService.pageSize(limit));
+    }
+
+    @Override
+    public List<Completion> completeSpecialities(String prefix, int limit) {
+        return developerAutocompleteIndex.completeSpecialities(prefix, DeveloperService.pageSize(limit));
+    }
+
+    /**
+     * Pages through developer rows in {@code (updatedAt, id)} order. Timestamps are taken before commit, so a row
+     * can become visible after rows stamped later; only rows older than the settle window are returned, which lets
+     * the watermark move past them safely. Soft deleted rows and hard deletes recorded in the outbox over the same
+     * range come back as tombstones.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DeveloperChangesDto getChangesSince(DeveloperSyncWatermark since, int size) {
+        DeveloperSyncWatermark from = since == null ? DeveloperSyncWatermark.INITIAL : since;
+        Instant now = DeveloperEntity.currentTimestamp();
+        if (!from.initialSync() && from.updatedAt().isBefore(now.minus(changeFeedProperties.getRetention()))) {
+            throw new SyncWatermarkExpiredException(MessageFormat.format(
+                    "Watermark is older than the change retention of {0}, sync again without since",
+                    changeFeedProperties.getRetention()));
+        }
+        int pageSize = Math.max(1, Math.min(size, syncProperties.getMaxPageSize()));
+        Instant settledUpTo = now.minus(syncProperties.getSettleWindow());
+        if (settledUpTo.isBefore(from.updatedAt())) {
+            settledUpTo = from.updatedAt();
+        }
+        List<DeveloperEntity> rows = developerRepository.findChangedPage(
+                from.updatedAt(), from.afterId(), settledUpTo, Limit.of(pageSize));
+        boolean hasMore = rows.size() == pageSize;
+        DeveloperSyncWatermark next = hasMore
+                ? new DeveloperSyncWatermark(rows.get(rows.size() - 1).getUpdatedAt(), rows.get(rows.size() - 1).getId(),
+                from.initialSync())
+                : new DeveloperSyncWatermark(settledUpTo, Integer.MAX_VALUE, false);
+        List<DeveloperDto> changed = new ArrayList<>(rows.size());
+        Set<Integer> deleted = new LinkedHashSet<>();
+        for (DeveloperEntity row : rows) {
+            if (row.getStatus() == Status.DELETED) {
+                deleted.add(row.getId());
+            } else {
+                changed.add(DeveloperDto.toDto(row));
+            }
+        }
+        deleted.addAll(developerChangeRepository.findHardDeletedBetween(from.updatedAt(), next.updatedAt()));
+        return DeveloperChangesDto.builder()
+                .changed(changed)
+                .deleted(new ArrayList<>(deleted))
+                .watermark(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportActiveDevelopers(Consumer<DeveloperEntity> consumer) {
+        try (Stream<DeveloperEntity> developers = developerRepository.streamAllActive()) {
+            developers.forEach(developer -> {
+                consumer.accept(developer);
+                entityManager.detach(developer);
+            });
+        }
+    }
+
+    @Override
+    @Transactional
     public void softDeleteById(Integer id) {
-        DeveloperEntity obtainedDeveloper = getDeveloperById(id);
-        obtainedDeveloper.setStatus(Status.DELETED);
-        developerRepository.save(obtainedDeveloper);
+        Instant updatedAt = DeveloperEntity.currentTimestamp();
+        if (developerRepository.softDeleteById(id, updatedAt) == 0) {
+            throw notFound(id);
+        }
+        DeveloperEntity deletedDeveloper = DeveloperEntity.builder()
+                .id(id)
+                .status(Status.DELETED)
+                .version(developerRepository.findVersionById(id))
+                .updatedAt(updatedAt)
+                .build();
+        publish(DeveloperChangeType.SOFT_DELETED, deletedDeveloper);
     }
 
     @Override
+    @Transactional
     public void hardDeleteById(Integer id) {
-        DeveloperEntity obtainedDeveloper = getDeveloperById(id);
-        developerRepository.deleteById(obtainedDeveloper.getId());
+        if (developerRepository.hardDeleteById(id) == 0) {
+            throw notFound(id);
+        }
+        DeveloperEntity deletedDeveloper = DeveloperEntity.builder()
+                .id(id)
+                .updatedAt(DeveloperEntity.currentTimestamp())
+                .build();
+        publish(DeveloperChangeType.HARD_DELETED, deletedDeveloper);
+    }
+
+    /**
+     * Records the change in the outbox within the current transaction and notifies the in-memory listeners.
+     */
+    private void publish(DeveloperChangeType type, DeveloperEntity developer) {
+        developerChangeRepository.save(DeveloperChangeEntity.of(type, developer));
+        eventPublisher.publishEvent(DeveloperChangedEvent.of(type, developer));
+    }
+
+    /**
+     * Runs a read whose result is cached on the primary: a lagging replica could put a row the change events
+     * already invalidated back into the cache.
+     */
+    private static <T> T fromPrimary(Supplier<T> read) {
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.usePrimary()) {
+            return read.get();
+        }
+    }
+
+    private RuntimeException translateDuplicateEmail(DataIntegrityViolationException e, String email) {
+        if (DataIntegrityViolations.isDuplicateEmail(e)) {
+            return new DeveloperWithDuplicateEmailException(MessageFormat.format("Email {0} already use", email));
+        }
+        return e;
+    }
+
+    private RuntimeException notUpdated(DeveloperEntity developer) {
+        if (developer.getVersion() != null && developerRepository.existsById(developer.getId())) {
+            return new DeveloperVersionConflictException(MessageFormat.format(
+                    "Developer with ID: {0} was modified, version {1} is outdated", developer.getId(), developer.getVersion()));
+        }
+        return notFound(developer.getId());
+    }
+
+    private static boolean isEmptyPatch(DeveloperEntity changes) {
+        return changes.getEmail() == null && changes.getFirstName() == null && changes.getLastName() == null
+                && changes.getSpeciality() == null && changes.getStatus() == null;
+    }
+
+    private static DeveloperNotFoundException notFound(Integer id) {
+        return new DeveloperNotFoundException(MessageFormat.format("Developer with ID: {0} not found", id));
     }
 }
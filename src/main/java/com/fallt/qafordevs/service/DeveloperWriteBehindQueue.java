@@ -0,0 +1,215 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperWriteBehindProperties;
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.exeption.DeveloperWriteQueueFullException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for developer creation. Callers enqueue developers and get a future, while a single writer
+ * drains the queue into batches of up to {@code maxBatchSize}, waiting at most {@code maxLinger} for a batch
+ * to fill, and saves each batch in one transaction through {@link DeveloperService#saveDevelopers}. A full
+ * queue makes callers wait up to {@code enqueueTimeout} before the write is rejected.
+ */
+@Slf4j
+@Component
+public class DeveloperWriteBehindQueue implements SmartLifecycle, MeterBinder {
+
+    private static final long SHUTDOWN_POLL_MILLIS = 100;
+
+    private final DeveloperService developerService;
+
+    private final DeveloperWriteBehindProperties properties;
+
+    private final BlockingQueue<PendingWrite> queue;
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    private DistributionSummary batchSizes;
+
+    public DeveloperWriteBehindQueue(DeveloperService developerService, DeveloperWriteBehindProperties properties) {
+        this.developerService = developerService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public CompletableFuture<DeveloperEntity> submit(DeveloperEntity developer) {
+        PendingWrite write = new PendingWrite(developer, new CompletableFuture<>());
+        boolean accepted;
+        try {
+            accepted = running && queue.offer(write, properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            throw new DeveloperWriteQueueFullException("Developer write queue is full, try again later");
+        }
+        return write.result();
+    }
+
+    /**
+     * Enqueues the developer and waits for its batch to commit, rethrowing the error of this developer if
+     * it was rejected.
+     */
+    public DeveloperEntity save(DeveloperEntity developer) {
+        try {
+            return submit(developer).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("developer.write.queue.size", queue, BlockingQueue::size)
+                .description("Developers waiting to be written by the group commit writer")
+                .register(registry);
+        batchSizes = DistributionSummary.builder("developer.write.batch.size")
+                .description("Developers saved per group commit")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("developer-writer").daemon().start(this::drain);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        PendingWrite write;
+        while ((write = queue.poll()) != null) {
+            write.result().completeExceptionally(
+                    new DeveloperWriteQueueFullException("Developer write queue is shutting down"));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the web server, so that requests still in flight get their batch written.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(SHUTDOWN_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Developer write batch failed", e);
+                batch.forEach(write -> write.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<PendingWrite> batch) throws InterruptedException {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long deadline = System.nanoTime() + properties.getMaxLinger().toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingWrite> batch) {
+        if (batchSizes != null) {
+            batchSizes.record(batch.size());
+        }
+        List<DeveloperBatchResultDto> results;
+        try {
+            results = developerService.saveDevelopers(batch.stream().map(PendingWrite::developer).toList());
+        } catch (DataIntegrityViolationException e) {
+            batch.forEach(this::writeAlone);
+            return;
+        }
+        for (DeveloperBatchResultDto result : results) {
+            PendingWrite write = batch.get(result.getIndex());
+            if (result.getStatus() == BatchItemStatus.CREATED) {
+                write.result().complete(write.developer());
+            } else {
+                write.result().completeExceptionally(new DeveloperWithDuplicateEmailException(result.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * A concurrent insert took one of the emails after the batch checked them, so the batch was rolled back
+     * and every developer gets its own transaction instead.
+     */
+    private void writeAlone(PendingWrite write) {
+        try {
+            write.result().complete(developerService.saveDeveloper(write.developer()));
+        } catch (RuntimeException e) {
+            write.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingWrite(DeveloperEntity developer, CompletableFuture<DeveloperEntity> result) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveDeveloperService {
+
+    Mono<DeveloperEntity> saveDeveloper(DeveloperEntity developer);
+
+    Flux<DeveloperBatchResultDto> saveDevelopers(List<DeveloperEntity> developers);
+
+    Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer);
+
+    Mono<DeveloperEntity> getDeveloperById(Integer id);
+
+    Flux<DeveloperEntity> getAllDevelopers(Integer afterId, int size);
+
+    Flux<DeveloperEntity> getAllActiveBySpeciality(String speciality);
+
+    Mono<Void> softDeleteById(Integer id);
+
+    Mono<Void> hardDeleteById(Integer id);
+}
@@ -0,0 +1,213 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import com.fallt.qafordevs.entity.DeveloperChangeRow;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.DeveloperRow;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.exeption.DataIntegrityViolations;
+import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.exeption.DeveloperVersionConflictException;
+import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.index.SpecialityIndex;
+import com.fallt.qafordevs.repository.ReactiveDeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.transaction.TransactionProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveDeveloperServiceImpl implements ReactiveDeveloperService {
+
+    private final ReactiveDeveloperRepository developerRepository;
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    private final SpecialityIndex specialityIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionalOperator transactionalOperator;
+
+    private final TransactionProperties transactionProperties;
+
+    @Override
+    public Mono<DeveloperEntity> saveDeveloper(DeveloperEntity developer) {
+        return developerRepository.nextIdBlock()
+                .map(id -> DeveloperRow.fromEntity(developer).toBuilder()
+                        .id(Math.toIntExact(id))
+                        .status(Status.ACTIVE)
+                        .version(0L)
+                        .updatedAt(DeveloperEntity.currentTimestamp())
+                        .build())
+                .flatMap(entityTemplate::insert)
+                .onErrorMap(DataIntegrityViolationException.class, e -> translateDuplicateEmail(e, developer.getEmail()))
+                .map(DeveloperRow::toEntity)
+                .flatMap(savedDeveloper -> recordChange(DeveloperChangeType.CREATED, savedDeveloper))
+                .as(this::inTransaction)
+                .doOnNext(savedDeveloper -> publish(DeveloperChangeType.CREATED, savedDeveloper));
+    }
+
+    @Override
+    public Flux<DeveloperBatchResultDto> saveDevelopers(List<DeveloperEntity> developers) {
+        return Flux.range(0, developers.size())
+                .concatMap(index -> {
+                    DeveloperEntity developer = developers.get(index);
+                    return saveDeveloper(developer)
+                            .map(savedDeveloper -> DeveloperBatchResultDto.builder()
+                                    .index(index)
+                                    .id(savedDeveloper.getId())
+                                    .email(savedDeveloper.getEmail())
+                                    .status(BatchItemStatus.CREATED)
+                                    .build())
+                            .onErrorResume(DeveloperWithDuplicateEmailException.class, e -> Mono.just(
+                                    DeveloperBatchResultDto.builder()
+                                            .index(index)
+                                            .email(developer.getEmail())
+                                            .status(BatchItemStatus.DUPLICATE_EMAIL)
+                                            .message(e.getMessage())
+                                            .build()));
+                });
+    }
+
+    @Override
+    public Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer) {
+        Instant updatedAt = DeveloperEntity.currentTimestamp();
+        return developerRepository.updateDeveloper(developer.getId(), developer.getEmail(), developer.getFirstName(),
+                        developer.getLastName(), developer.getSpeciality(),
+                        developer.getStatus() == null ? null : developer.getStatus().name(), developer.getVersion(),
+                        updatedAt)
+                .onErrorMap(DataIntegrityViolationException.class, e -> translateDuplicateEmail(e, developer.getEmail()))
+                .flatMap(updatedRows -> updatedRows == 0
+                        ? notUpdated(developer)
+                        : findExistingDeveloper(developer.getId()).map(DeveloperRow::toEntity))
+                .flatMap(updatedDeveloper -> recordChange(DeveloperChangeType.UPDATED, updatedDeveloper))
+                .as(this::inTransaction)
+                .doOnNext(updatedDeveloper -> publish(DeveloperChangeType.UPDATED, updatedDeveloper));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> getDeveloperById(Integer id) {
+        return findExistingDeveloper(id)
+                .map(DeveloperRow::toEntity);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAllDevelopers(Integer afterId, int size) {
+        int pageSize = DeveloperService.pageSize(size);
+        int cursor = afterId == null ? 0 : afterId;
+        return developerRepository.findActivePage(cursor, pageSize)
+                .map(DeveloperRow::toEntity);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAllActiveBySpeciality(String speciality) {
+        if (specialityIndex.isReady()) {
+            return Flux.fromIterable(specialityIndex.findBySpeciality(speciality));
+        }
+        return developerRepository.findAllActiveBySpeciality(speciality)
+                .map(DeveloperRow::toEntity);
+    }
+
+    @Override
+    public Mono<Void> softDeleteById(Integer id) {
+        Instant updatedAt = DeveloperEntity.currentTimestamp();
+        return developerRepository.softDeleteById(id, updatedAt)
+                .flatMap(deletedRows -> deletedRows == 0
+                        ? Mono.<Long>error(notFound(id))
+                        : developerRepository.findVersionById(id))
+                .map(version -> DeveloperEntity.builder()
+                        .id(id)
+                        .status(Status.DELETED)
+                        .version(version)
+                        .updatedAt(updatedAt)
+                        .build())
+                .flatMap(deletedDeveloper -> recordChange(DeveloperChangeType.SOFT_DELETED, deletedDeveloper))
+                .as(this::inTransaction)
+                .doOnNext(developer -> publish(DeveloperChangeType.SOFT_DELETED, developer))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> hardDeleteById(Integer id) {
+        DeveloperEntity deletedDeveloper = DeveloperEntity.builder()
+                .id(id)
+                .updatedAt(DeveloperEntity.currentTimestamp())
+                .build();
+        return developerRepository.hardDeleteById(id)
+                .flatMap(deletedRows -> deletedRows == 0
+                        ? Mono.<DeveloperEntity>error(notFound(id))
+                        : recordChange(DeveloperChangeType.HARD_DELETED, deletedDeveloper))
+                .as(this::inTransaction)
+                .doOnNext(developer -> publish(DeveloperChangeType.HARD_DELETED, developer))
+                .then();
+    }
+
+    private Mono<DeveloperRow> findExistingDeveloper(Integer id) {
+        return developerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    private Mono<DeveloperEntity> notUpdated(DeveloperEntity developer) {
+        if (developer.getVersion() == null) {
+            return Mono.error(notFound(developer.getId()));
+        }
+        return developerRepository.existsById(developer.getId())
+                .flatMap(isExist -> Mono.error(isExist
+                        ? new DeveloperVersionConflictException(MessageFormat.format(
+                        "Developer with ID: {0} was modified, version {1} is outdated", developer.getId(), developer.getVersion()))
+                        : notFound(developer.getId())));
+    }
+
+    /**
+     * Records the change in the outbox within the current transaction, as the JPA service does, so that delta
+     * sync and the change feed see writes made through this API too.
+     */
+    private Mono<DeveloperEntity> recordChange(DeveloperChangeType type, DeveloperEntity developer) {
+        return developerRepository.nextChangeId()
+                .map(id -> DeveloperChangeRow.fromEntity(DeveloperChangeEntity.of(type, developer)).toBuilder()
+                        .id(id)
+                        .build())
+                .flatMap(entityTemplate::insert)
+                .thenReturn(developer);
+    }
+
+    /**
+     * Bounds the write by spring.transaction.default-timeout like the JPA writes: the change feed only skips a
+     * sequence gap once no transaction holding its number can still commit.
+     */
+    private <T> Mono<T> inTransaction(Mono<T> write) {
+        Duration timeout = transactionProperties.getDefaultTimeout();
+        return transactionalOperator.transactional(timeout == null ? write : write.timeout(timeout));
+    }
+
+    private void publish(DeveloperChangeType type, DeveloperEntity developer) {
+        eventPublisher.publishEvent(DeveloperChangedEvent.of(type, developer));
+    }
+
+    private static DeveloperNotFoundException notFound(Integer id) {
+        return new DeveloperNotFoundException(MessageFormat.format("Developer with ID: {0} not found", id));
+    }
+
+    private static Throwable translateDuplicateEmail(DataIntegrityViolationException e, String email) {
+        if (DataIntegrityViolations.isDuplicateEmail(e)) {
+            return new DeveloperWithDuplicateEmailException(MessageFormat.format("Email {0} already use", email));
+        }
+        return e;
+    }
+}
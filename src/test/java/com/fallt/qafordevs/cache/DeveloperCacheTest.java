@@ -0,0 +1,161 @@
+package com.fallt.qafordevs.cache;
+
+import com.fallt.qafordevs.config.DeveloperCacheProperties;
+import com.fallt.qafordevs.dto.CacheStatsDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+class DeveloperCacheTest {
+
+    private final DeveloperCache cacheUnderTest = new DeveloperCache(new DeveloperCacheProperties());
+
+    @Test
+    @DisplayName("Test cached lookup returns copies functionality")
+    void givenCachedDeveloper_whenReturnedCopyIsChanged_thenCachedValueIsUnchanged() {
+        //given
+        cacheUnderTest.findById(1, id -> Optional.of(DataUtils.getJohnDoePersisted()))
+                .orElseThrow()
+                .setEmail("changed@gmail.com");
+        //when
+        Optional<DeveloperEntity> obtainedDeveloper = cacheUnderTest.findById(1, id -> Optional.empty());
+        //then
+        assertThat(obtainedDeveloper).map(DeveloperEntity::getEmail).contains("john.doe@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Test negative lookup caching functionality")
+    void givenMissingDeveloper_whenLookedUpTwice_thenLoaderIsCalledOnce() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        //when
+        cacheUnderTest.findByEmail("john.doe@gmail.com", email -> load(loads, Optional.empty()));
+        Optional<DeveloperEntity> obtainedDeveloper =
+                cacheUnderTest.findByEmail("john.doe@gmail.com", email -> load(loads, Optional.empty()));
+        //then
+        assertThat(obtainedDeveloper).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test invalidation on create functionality")
+    void givenNegativeLookupCached_whenDeveloperCreated_thenNextLookupReloads() {
+        //given
+        cacheUnderTest.findByEmail("john.doe@gmail.com", email -> Optional.empty());
+        //when
+        cacheUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.CREATED, DataUtils.getJohnDoePersisted()));
+        Optional<DeveloperEntity> obtainedDeveloper =
+                cacheUnderTest.findByEmail("john.doe@gmail.com", email -> Optional.of(DataUtils.getJohnDoePersisted()));
+        //then
+        assertThat(obtainedDeveloper).isPresent();
+    }
+
+    @Test
+    @DisplayName("Test stale email mapping functionality")
+    void givenEmailChanged_whenLookedUpByOldEmail_thenDeveloperIsReloaded() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        cacheUnderTest.findByEmail("john.doe@gmail.com", email -> Optional.of(DataUtils.getJohnDoePersisted()));
+        DeveloperEntity updated = DataUtils.getJohnDoePersisted();
+        updated.setEmail("updated@gmail.com");
+        cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, updated));
+        cacheUnderTest.findById(1, id -> Optional.of(updated));
+        //when
+        Optional<DeveloperEntity> obtainedDeveloper =
+                cacheUnderTest.findByEmail("john.doe@gmail.com", email -> load(loads, Optional.empty()));
+        //then
+        assertThat(obtainedDeveloper).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test invalidation during an email load functionality")
+    void givenDeveloperUpdatedDuringEmailLoad_whenLookedUpAgain_thenStaleRowIsNotCached() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        DeveloperEntity updated = DataUtils.getJohnDoePersisted();
+        updated.setLastName("Updated");
+        cacheUnderTest.findByEmail("john.doe@gmail.com", email -> {
+            cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, updated));
+            return Optional.of(DataUtils.getJohnDoePersisted());
+        });
+        //when
+        Optional<DeveloperEntity> byId = cacheUnderTest.findById(1, id -> load(loads, Optional.of(updated)));
+        Optional<DeveloperEntity> byEmail =
+                cacheUnderTest.findByEmail("john.doe@gmail.com", email -> load(loads, Optional.of(updated)));
+        //then
+        assertThat(byId).map(DeveloperEntity::getLastName).contains("Updated");
+        assertThat(byEmail).map(DeveloperEntity::getLastName).contains("Updated");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test create during a negative email load functionality")
+    void givenDeveloperCreatedDuringEmailLoad_whenLookedUpAgain_thenNegativeResultIsNotCached() {
+        //given
+        cacheUnderTest.findByEmail("john.doe@gmail.com", email -> {
+            cacheUnderTest.onDeveloperChanged(
+                    DeveloperChangedEvent.of(DeveloperChangeType.CREATED, DataUtils.getJohnDoePersisted()));
+            return Optional.empty();
+        });
+        //when
+        Optional<DeveloperEntity> obtainedDeveloper =
+                cacheUnderTest.findByEmail("john.doe@gmail.com", email -> Optional.of(DataUtils.getJohnDoePersisted()));
+        //then
+        assertThat(obtainedDeveloper).isPresent();
+    }
+
+    @Test
+    @DisplayName("Test cache statistics functionality")
+    void givenOneMissAndOneHit_whenStats_thenCountersAreReported() {
+        //given
+        cacheUnderTest.findById(1, id -> Optional.of(DataUtils.getJohnDoePersisted()));
+        cacheUnderTest.findById(1, id -> Optional.of(DataUtils.getJohnDoePersisted()));
+        //when
+        List<CacheStatsDto> stats = cacheUnderTest.stats();
+        //then
+        assertThat(stats).filteredOn(s -> s.getName().equals("developersById"))
+                .singleElement()
+                .satisfies(s -> {
+                    assertThat(s.getHits()).isEqualTo(1);
+                    assertThat(s.getMisses()).isEqualTo(1);
+                    assertThat(s.getSize()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("Test failed load is not cached functionality")
+    void givenFailingLoader_whenLookedUpAgain_thenLoaderIsCalledAgain() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        //when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> cacheUnderTest.findById(1, id -> {
+                    loads.incrementAndGet();
+                    throw failure;
+                }));
+        Optional<DeveloperEntity> obtainedDeveloper =
+                cacheUnderTest.findById(1, id -> load(loads, Optional.of(DataUtils.getJohnDoePersisted())));
+        //then
+        assertThat(exception).isSameAs(failure);
+        assertThat(obtainedDeveloper).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<DeveloperEntity> load(AtomicInteger loads, Optional<DeveloperEntity> result) {
+        loads.incrementAndGet();
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package com.fallt.qafordevs.cache;
+
+import com.fallt.qafordevs.cache.SpecialityResponseCache.EncodedResponse;
+import com.fallt.qafordevs.config.SpecialityResponseCacheProperties;
+import com.fallt.qafordevs.dto.CacheStatsDto;
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecialityResponseCacheTest {
+
+    private final SpecialityResponseCache cacheUnderTest =
+            new SpecialityResponseCache(new SpecialityResponseCacheProperties(), new ObjectMapper());
+
+    @Test
+    @DisplayName("Test cached response for same version functionality")
+    void givenCachedResponse_whenVersionIsUnchanged_thenBodyIsNotRebuilt() {
+        //given
+        AtomicInteger builds = new AtomicInteger();
+        cacheUnderTest.get("Java", "a-1", () -> build(builds));
+        //when
+        EncodedResponse response = cacheUnderTest.get("Java", "a-1", () -> build(builds));
+        //then
+        assertThat(builds).hasValue(1);
+        assertThat(new String(response.json())).contains("john.doe@gmail.com");
+        CacheStatsDto stats = cacheUnderTest.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getWeight()).isEqualTo(response.json().length);
+    }
+
+    @Test
+    @DisplayName("Test cached response for new version functionality")
+    void givenCachedResponse_whenVersionChanges_thenBodyIsRebuilt() {
+        //given
+        AtomicInteger builds = new AtomicInteger();
+        cacheUnderTest.get("Java", "a-1", () -> build(builds));
+        //when
+        EncodedResponse response = cacheUnderTest.get("Java", "a-2", () -> build(builds));
+        //then
+        assertThat(builds).hasValue(2);
+        assertThat(response.version()).isEqualTo("a-2");
+    }
+
+    @Test
+    @DisplayName("Test invalidation on developer change functionality")
+    void givenCachedResponse_whenDeveloperOfSpecialityChanges_thenEntryIsRemoved() {
+        //given
+        cacheUnderTest.get("Java", "a-1", () -> List.of(DeveloperDto.toDto(DataUtils.getJohnDoePersisted())));
+        //when
+        cacheUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.CREATED, DataUtils.getMikeSmithPersisted()));
+        //then
+        assertThat(cacheUnderTest.stats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test gzip of large responses functionality")
+    void givenResponseAboveGzipThreshold_whenCached_thenCompressedBodyIsKept() throws IOException {
+        //given
+        List<DeveloperDto> body = Collections.nCopies(50, DeveloperDto.toDto(DataUtils.getJohnDoePersisted()));
+        //when
+        EncodedResponse response = cacheUnderTest.get("Java", "a-1", () -> body);
+        //then
+        assertThat(response.gzip()).isNotNull();
+        assertThat(response.gzip().length).isLessThan(response.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(response.json());
+        }
+    }
+
+    @Test
+    @DisplayName("Test memory bound functionality")
+    void givenSmallMaxSize_whenResponsesExceedIt_thenEntriesAreEvicted() {
+        //given
+        SpecialityResponseCacheProperties properties = new SpecialityResponseCacheProperties();
+        properties.setMaxSize(DataSize.ofBytes(1000));
+        SpecialityResponseCache cache = new SpecialityResponseCache(properties, new ObjectMapper());
+        //when
+        for (int i = 0; i < 20; i++) {
+            cache.get("Speciality" + i, "a-1", () -> List.of(DeveloperDto.toDto(DataUtils.getJohnDoePersisted())));
+        }
+        //then
+        CacheStatsDto stats = cache.stats();
+        assertThat(stats.getWeight()).isLessThanOrEqualTo(1000);
+        assertThat(stats.getMaxWeight()).isEqualTo(1000);
+        assertThat(stats.getEvictions()).isPositive();
+    }
+
+    private static List<DeveloperDto> build(AtomicInteger builds) {
+        builds.incrementAndGet();
+        return List.of(DeveloperDto.toDto(DataUtils.getJohnDoePersisted()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.fallt.qafordevs.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource targetDataSource = mock(DataSource.class);
+
+    private final ConcurrencyLimitedDataSource dataSourceUnderTest =
+            new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+    @Test
+    @DisplayName("Test connection limit functionality")
+    void givenBorrowedConnection_whenAnotherIsRequested_thenExceptionIsThrown() throws SQLException {
+        //given
+        BDDMockito.given(targetDataSource.getConnection()).willReturn(mock(Connection.class));
+        dataSourceUnderTest.getConnection();
+        //when
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class,
+                dataSourceUnderTest::getConnection);
+        //then
+        assertThat(exception.getMessage()).isEqualTo("No database connection permit available within 50 ms");
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Test permit release on close functionality")
+    void givenBorrowedConnection_whenClosedTwice_thenSinglePermitIsReleased() throws SQLException {
+        //given
+        Connection targetConnection = mock(Connection.class);
+        BDDMockito.given(targetDataSource.getConnection()).willReturn(targetConnection);
+        Connection connection = dataSourceUnderTest.getConnection();
+        //when
+        connection.close();
+        connection.close();
+        //then
+        assertThat(dataSourceUnderTest.getAvailablePermits()).isEqualTo(1);
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Test permit release on failed borrow functionality")
+    void givenFailingTargetDataSource_whenGetConnection_thenPermitIsReleased() throws SQLException {
+        //given
+        BDDMockito.given(targetDataSource.getConnection()).willThrow(new SQLException("pool exhausted"));
+        //when
+        assertThrows(SQLException.class, dataSourceUnderTest::getConnection);
+        //then
+        assertThat(dataSourceUnderTest.getAvailablePermits()).isEqualTo(1);
+    }
+}
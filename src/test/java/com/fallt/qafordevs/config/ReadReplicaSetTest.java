@@ -0,0 +1,128 @@
+package com.fallt.qafordevs.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ReadReplicaSetTest {
+
+    private final DataSource primary = mock(DataSource.class);
+
+    private final DataSource first = mock(DataSource.class);
+
+    private final DataSource second = mock(DataSource.class);
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection firstConnection = mock(Connection.class);
+
+    private final Connection secondConnection = mock(Connection.class);
+
+    @Test
+    @DisplayName("Test round robin replica selection functionality")
+    void givenTwoReplicas_whenGetConnections_thenReplicasTakeTurns() throws SQLException {
+        //given
+        ReadReplicaSet replicaSetUnderTest = replicaSet(ReadReplicaProperties.Selection.ROUND_ROBIN);
+        BDDMockito.given(first.getConnection()).willReturn(firstConnection);
+        BDDMockito.given(second.getConnection()).willReturn(secondConnection);
+        //when
+        Connection one = replicaSetUnderTest.getConnection();
+        Connection two = replicaSetUnderTest.getConnection();
+        Connection three = replicaSetUnderTest.getConnection();
+        //then
+        assertThat(one).isSameAs(firstConnection);
+        assertThat(two).isSameAs(secondConnection);
+        assertThat(three).isSameAs(firstConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Test failing replica is skipped until a probe succeeds")
+    void givenFailingReplica_whenGetConnection_thenOtherReplicaServesUntilProbeSucceeds() throws SQLException {
+        //given
+        ReadReplicaSet replicaSetUnderTest = replicaSet(ReadReplicaProperties.Selection.ROUND_ROBIN);
+        BDDMockito.given(first.getConnection())
+                .willThrow(new SQLException("connection refused"))
+                .willReturn(firstConnection);
+        BDDMockito.given(firstConnection.isValid(anyInt())).willReturn(true);
+        BDDMockito.given(second.getConnection()).willReturn(secondConnection);
+        BDDMockito.given(secondConnection.isValid(anyInt())).willReturn(true);
+        //when
+        Connection failedOver = replicaSetUnderTest.getConnection();
+        Connection whileDown = replicaSetUnderTest.getConnection();
+        replicaSetUnderTest.probe();
+        //then
+        assertThat(failedOver).isSameAs(secondConnection);
+        assertThat(whileDown).isSameAs(secondConnection);
+        assertThat(replicaSetUnderTest.candidates()).hasSize(2);
+        verify(first, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Test primary serves reads when every replica is down")
+    void givenNoReachableReplica_whenGetConnection_thenPrimaryConnectionIsReturned() throws SQLException {
+        //given
+        ReadReplicaSet replicaSetUnderTest = replicaSet(ReadReplicaProperties.Selection.ROUND_ROBIN);
+        BDDMockito.given(first.getConnection()).willThrow(new SQLException("connection refused"));
+        BDDMockito.given(second.getConnection()).willThrow(new IllegalStateException("pool is closed"));
+        BDDMockito.given(primary.getConnection()).willReturn(primaryConnection);
+        //when
+        Connection connection = replicaSetUnderTest.getConnection();
+        //then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(replicaSetUnderTest.candidates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test latency aware selection prefers the faster replica")
+    void givenSlowReplica_whenLatencyAwareSelection_thenFasterReplicaIsTriedFirst() throws SQLException {
+        //given
+        ReadReplicaSet replicaSetUnderTest = replicaSet(ReadReplicaProperties.Selection.LATENCY_AWARE);
+        BDDMockito.given(first.getConnection()).willReturn(firstConnection);
+        BDDMockito.given(firstConnection.isValid(anyInt())).willAnswer(invocation -> {
+            Thread.sleep(20);
+            return true;
+        });
+        BDDMockito.given(second.getConnection()).willReturn(secondConnection);
+        BDDMockito.given(secondConnection.isValid(anyInt())).willReturn(true);
+        replicaSetUnderTest.probe();
+        //when
+        Connection connection = replicaSetUnderTest.getConnection();
+        //then
+        assertThat(connection).isSameAs(secondConnection);
+        assertThat(replicaSetUnderTest.candidates()).extracting(ReadReplicaSet.Replica::name)
+                .containsExactly("second", "first");
+    }
+
+    @Test
+    @DisplayName("Test data source view rejects explicit credentials")
+    void givenDataSourceView_whenGetConnectionWithCredentials_thenFeatureIsNotSupported() {
+        //given
+        DataSource dataSourceUnderTest = replicaSet(ReadReplicaProperties.Selection.ROUND_ROBIN).asDataSource();
+        //when
+        //then
+        assertThrows(SQLFeatureNotSupportedException.class, () -> dataSourceUnderTest.getConnection("user", "secret"));
+        verifyNoInteractions(first, second, primary);
+    }
+
+    private ReadReplicaSet replicaSet(ReadReplicaProperties.Selection selection) {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setSelection(selection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("first", first);
+        replicas.put("second", second);
+        return new ReadReplicaSet(primary, replicas, properties);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletionTrieTest {
+
+    @Test
+    @DisplayName("Test completions are ranked by count functionality")
+    void givenValuesWithCounts_whenComplete_thenMostFrequentComeFirst() {
+        //given
+        CompletionTrie trie = CompletionTrie.EMPTY
+                .add("John", 1)
+                .add("Johnson", 3)
+                .add("Joanna", 2)
+                .add("Mike", 5);
+        //when
+        List<Completion> completions = trie.complete("jo", 10);
+        //then
+        assertThat(completions).containsExactly(
+                new Completion("Johnson", 3), new Completion("Joanna", 2), new Completion("John", 1));
+        assertThat(trie.complete("jo", 1)).containsExactly(new Completion("Johnson", 3));
+    }
+
+    @Test
+    @DisplayName("Test prefix ending inside an edge functionality")
+    void givenSplitEdges_whenPrefixEndsInsideEdge_thenSubtreeIsCompleted() {
+        //given
+        CompletionTrie trie = CompletionTrie.EMPTY
+                .add("Kotlin", 1)
+                .add("Kotlin Multiplatform", 1);
+        //when
+        List<Completion> completions = trie.complete("Kotl", 10);
+        //then
+        assertThat(completions).extracting(Completion::value).containsExactly("Kotlin", "Kotlin Multiplatform");
+        assertThat(trie.complete("Kotx", 10)).isEmpty();
+        assertThat(trie.complete("Kotlin Multiplatform and more", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test case-insensitive values functionality")
+    void givenSameValueInDifferentCase_whenAdded_thenCountsAreMergedAndFirstSpellingIsKept() {
+        //given
+        CompletionTrie trie = CompletionTrie.EMPTY
+                .add("Java", 1)
+                .add("JAVA", 1);
+        //when
+        List<Completion> completions = trie.complete("JA", 10);
+        //then
+        assertThat(completions).containsExactly(new Completion("Java", 2));
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test removal functionality")
+    void givenValues_whenCountDropsToZero_thenValueIsRemovedAndSiblingsRemain() {
+        //given
+        CompletionTrie trie = CompletionTrie.EMPTY
+                .add("Anna", 1)
+                .add("Annabel", 1)
+                .add("Andrew", 1);
+        //when
+        CompletionTrie updated = trie
+                .add("Anna", -1)
+                .add("Andrew", -1)
+                .add("Unknown", -1);
+        //then
+        assertThat(updated.size()).isEqualTo(1);
+        assertThat(updated.count("Anna")).isZero();
+        assertThat(updated.complete("an", 10)).containsExactly(new Completion("Annabel", 1));
+        assertThat(updated.add("Annabel", -1).complete("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test updates do not change earlier versions functionality")
+    void givenTrie_whenValueIsAdded_thenPreviousTrieIsUnchanged() {
+        //given
+        CompletionTrie trie = CompletionTrie.EMPTY.add("Go", 1);
+        //when
+        CompletionTrie updated = trie.add("Golang", 1).add("Go", 1);
+        //then
+        assertThat(trie.complete("go", 10)).containsExactly(new Completion("Go", 1));
+        assertThat(updated.complete("go", 10)).containsExactly(new Completion("Go", 2), new Completion("Golang", 1));
+        assertThat(updated.estimatedBytes()).isGreaterThan(trie.estimatedBytes());
+    }
+}
@@ -0,0 +1,79 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeveloperAutocompleteIndexTest {
+
+    private final DeveloperAutocompleteIndex indexUnderTest = new DeveloperAutocompleteIndex();
+
+    @Test
+    @DisplayName("Test rebuild functionality")
+    void givenActiveDevelopers_whenRebuild_thenNamesAndSpecialitiesAreCompleted() {
+        //given
+        List<DeveloperEntity> developers = List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted());
+        //when
+        indexUnderTest.completeRebuild(developers);
+        //then
+        assertThat(indexUnderTest.isReady()).isTrue();
+        assertThat(indexUnderTest.completeNames("john", 10))
+                .containsExactly(new Completion("John", 1), new Completion("John Doe", 1));
+        assertThat(indexUnderTest.completeSpecialities("j", 10)).containsExactly(new Completion("Java", 2));
+    }
+
+    @Test
+    @DisplayName("Test update event functionality")
+    void givenIndexedDeveloper_whenRenamed_thenOldNameIsRemoved() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        DeveloperEntity renamed = DataUtils.getJohnDoePersisted();
+        renamed.setLastName("Dorian");
+        renamed.setSpeciality("Kotlin");
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, renamed));
+        //then
+        assertThat(indexUnderTest.completeNames("do", 10)).containsExactly(new Completion("Dorian", 1));
+        assertThat(indexUnderTest.completeSpecialities("", 10)).containsExactly(new Completion("Kotlin", 1));
+    }
+
+    @Test
+    @DisplayName("Test out of order events functionality")
+    void givenIndexedDeveloper_whenOlderRenameArrivesLast_thenNewerNameIsKept() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted().toBuilder().version(0L).build()));
+        DeveloperEntity olderRename = DataUtils.getJohnDoePersisted().toBuilder().version(1L).lastName("Dorian").build();
+        DeveloperEntity newerRename = DataUtils.getJohnDoePersisted().toBuilder().version(2L).lastName("Dalton").build();
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, newerRename));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, olderRename));
+        //then
+        assertThat(indexUnderTest.completeNames("d", 10)).containsExactly(new Completion("Dalton", 1));
+    }
+
+    @Test
+    @DisplayName("Test soft and hard delete events functionality")
+    void givenIndexedDevelopers_whenDeleted_thenCompletionsAreRemoved() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        DeveloperEntity softDeleted = DataUtils.getJohnDoePersisted();
+        softDeleted.setStatus(Status.DELETED);
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.SOFT_DELETED, softDeleted));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.HARD_DELETED,
+                DeveloperEntity.builder().id(2).build()));
+        //then
+        assertThat(indexUnderTest.completeNames("", 10)).isEmpty();
+        assertThat(indexUnderTest.completeSpecialities("", 10)).isEmpty();
+        assertThat(indexUnderTest.estimatedBytes()).isEqualTo(new DeveloperAutocompleteIndex().estimatedBytes());
+    }
+}
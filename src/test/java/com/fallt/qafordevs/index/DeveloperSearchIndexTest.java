@@ -0,0 +1,125 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeveloperSearchIndexTest {
+
+    private final DeveloperSearchIndex indexUnderTest = new DeveloperSearchIndex();
+
+    @Test
+    @DisplayName("Test search by name prefix functionality")
+    void givenBuiltIndex_whenSearchByShortPrefix_thenMatchingDevelopersAreReturned() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = indexUnderTest.search("Jo", 10);
+        //then
+        assertThat(indexUnderTest.isReady()).isTrue();
+        assertThat(obtainedDevelopers).extracting(DeveloperEntity::getId).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Test search by infix functionality")
+    void givenBuiltIndex_whenSearchByInfix_thenCandidatesAreVerified() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = indexUnderTest.search("mit", 10);
+        List<DeveloperEntity> unmatchedDevelopers = indexUnderTest.search("ohd", 10);
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperEntity::getId).containsExactly(2);
+        assertThat(unmatchedDevelopers).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test search ranking functionality")
+    void givenBuiltIndex_whenSearch_thenExactNameMatchesRankFirst() {
+        //given
+        DeveloperEntity javaDeveloper = DataUtils.getMikeSmithPersisted();
+        DeveloperEntity namedJava = DataUtils.getJohnDoePersisted().toBuilder()
+                .id(5)
+                .lastName("Java")
+                .speciality("Go")
+                .email("j5@gmail.com")
+                .build();
+        DeveloperEntity javascriptDeveloper = DataUtils.getJohnDoePersisted().toBuilder()
+                .id(3)
+                .speciality("JavaScript")
+                .build();
+        indexUnderTest.completeRebuild(List.of(javaDeveloper, namedJava, javascriptDeveloper));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = indexUnderTest.search("java", 10);
+        List<DeveloperEntity> topDeveloper = indexUnderTest.search("java", 1);
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperEntity::getId).containsExactly(5, 2, 3);
+        assertThat(topDeveloper).extracting(DeveloperEntity::getId).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("Test search with several terms functionality")
+    void givenBuiltIndex_whenSearchWithSeveralTerms_thenAllTermsMustMatch() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = indexUnderTest.search("java smith", 10);
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperEntity::getId).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Test update and delete events functionality")
+    void givenIndexedDevelopers_whenUpdatedAndDeleted_thenSearchReflectsChanges() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        DeveloperEntity renamed = DataUtils.getJohnDoePersisted();
+        renamed.setLastName("Brown");
+        DeveloperEntity softDeleted = DataUtils.getMikeSmithPersisted();
+        softDeleted.setStatus(Status.DELETED);
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, renamed));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.SOFT_DELETED, softDeleted));
+        //then
+        assertThat(indexUnderTest.search("doe", 10)).extracting(DeveloperEntity::getId).containsExactly(1);
+        assertThat(indexUnderTest.search("brown", 10)).extracting(DeveloperEntity::getId).containsExactly(1);
+        assertThat(indexUnderTest.search("smith", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test out of order events functionality")
+    void givenIndexedDeveloper_whenOlderEventsArriveLast_thenNewestVersionIsSearched() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted().toBuilder().version(0L).build()));
+        DeveloperEntity renamed = DataUtils.getJohnDoePersisted().toBuilder().version(1L).lastName("Brown").build();
+        DeveloperEntity softDeleted = DataUtils.getJohnDoePersisted().toBuilder().version(2L).status(Status.DELETED).build();
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.SOFT_DELETED, softDeleted));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, renamed));
+        //then
+        assertThat(indexUnderTest.search("brown", 10)).isEmpty();
+        assertThat(indexUnderTest.search("doe", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test memory estimate functionality")
+    void givenIndexedDevelopers_whenAllRemoved_thenMemoryEstimateDropsToZero() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        long indexedBytes = indexUnderTest.estimatedBytes();
+        //when
+        indexUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.HARD_DELETED, DataUtils.getJohnDoePersisted()));
+        //then
+        assertThat(indexedBytes).isPositive();
+        assertThat(indexUnderTest.estimatedBytes()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.repository.SpecialityCount;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpecialityIndexConsistencyCheckTest {
+
+    @Spy
+    private SpecialityIndex specialityIndex = new SpecialityIndex();
+    @Mock
+    private SpecialityIndexLoader specialityIndexLoader;
+    @Mock
+    private DeveloperRepository developerRepository;
+    @InjectMocks
+    private SpecialityIndexConsistencyCheck checkUnderTest;
+
+    @Test
+    @DisplayName("Test consistent index functionality")
+    void givenIndexMatchingDatabase_whenVerify_thenIndexIsNotRebuilt() {
+        //given
+        specialityIndex.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        BDDMockito.given(developerRepository.countActiveBySpeciality())
+                .willReturn(List.of(count("Java", 2, 3, 0)));
+        //when
+        checkUnderTest.verify();
+        //then
+        verify(specialityIndexLoader, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Test diverged index functionality")
+    void givenIndexMissingDeveloper_whenVerify_thenIndexIsRebuilt() {
+        //given
+        specialityIndex.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.given(developerRepository.countActiveBySpeciality())
+                .willReturn(List.of(count("Java", 2, 3, 0)));
+        //when
+        checkUnderTest.verify();
+        //then
+        verify(specialityIndexLoader, times(1)).rebuild();
+    }
+
+    @Test
+    @DisplayName("Test stale indexed developer functionality")
+    void givenIndexHoldingOlderVersion_whenVerify_thenIndexIsRebuilt() {
+        //given
+        specialityIndex.completeRebuild(List.of(
+                DataUtils.getJohnDoePersisted().toBuilder().version(1L).build(),
+                DataUtils.getMikeSmithPersisted().toBuilder().version(0L).build()));
+        BDDMockito.given(developerRepository.countActiveBySpeciality())
+                .willReturn(List.of(count("Java", 2, 3, 2)));
+        //when
+        checkUnderTest.verify();
+        //then
+        verify(specialityIndexLoader, times(1)).rebuild();
+    }
+
+    private SpecialityCount count(String speciality, long developers, long idChecksum, long versionChecksum) {
+        return new SpecialityCount() {
+            @Override
+            public String getSpeciality() {
+                return speciality;
+            }
+
+            @Override
+            public long getDevelopers() {
+                return developers;
+            }
+
+            @Override
+            public long getIdChecksum() {
+                return idChecksum;
+            }
+
+            @Override
+            public long getVersionChecksum() {
+                return versionChecksum;
+            }
+        };
+    }
+}
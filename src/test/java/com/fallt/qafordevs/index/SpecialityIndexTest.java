@@ -0,0 +1,169 @@
+package com.fallt.qafordevs.index;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecialityIndexTest {
+
+    private final SpecialityIndex indexUnderTest = new SpecialityIndex();
+
+    @Test
+    @DisplayName("Test rebuild functionality")
+    void givenActiveDevelopers_whenRebuild_thenDevelopersAreGroupedBySpecialityOrderedById() {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity developer2 = DataUtils.getMikeSmithPersisted();
+        developer2.setSpeciality("Kotlin");
+        DeveloperEntity developer3 = DataUtils.getJohnDoePersisted().toBuilder().id(5).build();
+        //when
+        indexUnderTest.completeRebuild(List.of(developer3, developer2, developer1));
+        //then
+        assertThat(indexUnderTest.isReady()).isTrue();
+        assertThat(indexUnderTest.findBySpeciality("Java")).extracting(DeveloperEntity::getId).containsExactly(1, 5);
+        assertThat(indexUnderTest.findBySpeciality("Kotlin")).extracting(DeveloperEntity::getId).containsExactly(2);
+        assertThat(indexUnderTest.findBySpeciality("Go")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test create event functionality")
+    void givenBuiltIndex_whenDeveloperIsCreated_thenDeveloperIsIndexed() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        //when
+        indexUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.CREATED, DataUtils.getMikeSmithPersisted()));
+        //then
+        assertThat(indexUnderTest.findBySpeciality("Java")).extracting(DeveloperEntity::getId).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Test speciality change functionality")
+    void givenIndexedDeveloper_whenSpecialityIsUpdated_thenDeveloperMovesToNewSpeciality() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        DeveloperEntity updatedDeveloper = DataUtils.getJohnDoePersisted();
+        updatedDeveloper.setSpeciality("Kotlin");
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, updatedDeveloper));
+        //then
+        assertThat(indexUnderTest.findBySpeciality("Java")).extracting(DeveloperEntity::getId).containsExactly(2);
+        assertThat(indexUnderTest.findBySpeciality("Kotlin")).extracting(DeveloperEntity::getId).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Test soft and hard delete events functionality")
+    void givenIndexedDevelopers_whenDeleted_thenDevelopersAreRemoved() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        DeveloperEntity softDeleted = DataUtils.getJohnDoePersisted();
+        softDeleted.setStatus(Status.DELETED);
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.SOFT_DELETED, softDeleted));
+        indexUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.HARD_DELETED, DataUtils.getMikeSmithPersisted()));
+        //then
+        assertThat(indexUnderTest.findBySpeciality("Java")).isEmpty();
+        assertThat(indexUnderTest.bySpeciality()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test out of order events functionality")
+    void givenIndexedDeveloper_whenOlderUpdateArrivesLast_thenNewerVersionIsKept() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted().toBuilder().version(0L).build()));
+        DeveloperEntity olderUpdate = DataUtils.getJohnDoePersisted().toBuilder().version(1L).speciality("Go").build();
+        DeveloperEntity newerUpdate = DataUtils.getJohnDoePersisted().toBuilder().version(2L).speciality("Kotlin").build();
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, newerUpdate));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, olderUpdate));
+        //then
+        assertThat(indexUnderTest.findBySpeciality("Kotlin")).extracting(DeveloperEntity::getVersion).containsExactly(2L);
+        assertThat(indexUnderTest.findBySpeciality("Go")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test update after hard delete functionality")
+    void givenHardDeletedDeveloper_whenUpdateArrivesLast_thenDeveloperIsNotIndexed() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted().toBuilder().version(0L).build()));
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.HARD_DELETED,
+                DeveloperEntity.builder().id(1).build()));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED,
+                DataUtils.getJohnDoePersisted().toBuilder().version(1L).build()));
+        //then
+        assertThat(indexUnderTest.bySpeciality()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test speciality version functionality")
+    void givenBuiltIndex_whenDeveloperChanges_thenOnlyAffectedSpecialityVersionsChange() {
+        //given
+        DeveloperEntity kotlinDeveloper = DataUtils.getMikeSmithPersisted();
+        kotlinDeveloper.setSpeciality("Kotlin");
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), kotlinDeveloper));
+        String javaVersion = indexUnderTest.versionOf("Java");
+        String kotlinVersion = indexUnderTest.versionOf("Kotlin");
+        String goVersion = indexUnderTest.versionOf("Go");
+        DeveloperEntity updatedDeveloper = DataUtils.getJohnDoePersisted();
+        updatedDeveloper.setSpeciality("Go");
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, updatedDeveloper));
+        //then
+        assertThat(indexUnderTest.versionOf("Java")).isNotEqualTo(javaVersion);
+        assertThat(indexUnderTest.versionOf("Go")).isNotEqualTo(goVersion);
+        assertThat(indexUnderTest.versionOf("Kotlin")).isEqualTo(kotlinVersion);
+    }
+
+    @Test
+    @DisplayName("Test speciality version after rebuild functionality")
+    void givenBuiltIndex_whenRebuiltWithSameDevelopers_thenVersionChanges() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        String version = indexUnderTest.versionOf("Java");
+        //when
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        //then
+        assertThat(indexUnderTest.versionOf("Java")).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Test changes during rebuild functionality")
+    void givenRebuildInProgress_whenDeveloperChanges_thenChangeIsKeptAfterRebuild() {
+        //given
+        indexUnderTest.beginRebuild();
+        List<DeveloperEntity> staleSnapshot = List.of(DataUtils.getJohnDoePersisted());
+        DeveloperEntity softDeleted = DataUtils.getJohnDoePersisted();
+        softDeleted.setStatus(Status.DELETED);
+        //when
+        indexUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.CREATED, DataUtils.getMikeSmithPersisted()));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.of(DeveloperChangeType.SOFT_DELETED, softDeleted));
+        indexUnderTest.completeRebuild(staleSnapshot);
+        //then
+        assertThat(indexUnderTest.findBySpeciality("Java")).extracting(DeveloperEntity::getId).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Test returned list is immutable functionality")
+    void givenBuiltIndex_whenReadersHoldList_thenLaterWritesDoNotChangeIt() {
+        //given
+        indexUnderTest.completeRebuild(List.of(DataUtils.getJohnDoePersisted()));
+        List<DeveloperEntity> obtainedDevelopers = indexUnderTest.findBySpeciality("Java");
+        //when
+        indexUnderTest.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.CREATED, DataUtils.getMikeSmithPersisted()));
+        //then
+        assertThat(obtainedDevelopers).hasSize(1);
+        assertThat(indexUnderTest.findBySpeciality("Java")).hasSize(2);
+    }
+}
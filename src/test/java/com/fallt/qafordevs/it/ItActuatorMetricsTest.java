@@ -0,0 +1,45 @@
+package com.fallt.qafordevs.it;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItActuatorMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Test prometheus endpoint exposes service, repository, error and pool metrics functionality")
+    void givenNotFoundDeveloper_whenScrapePrometheus_thenMetricsAreExposed() throws Exception {
+        //given
+        mockMvc.perform(get("/api/v1/developers/{id}", Integer.MAX_VALUE))
+                .andExpect(status().isNotFound());
+        //when
+        ResultActions result = mockMvc.perform(get("/actuator/prometheus"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().string(CoreMatchers.containsString(
+                        "developer_service_seconds_bucket{class=\"com.fallt.qafordevs.service.DeveloperServiceImpl\",exception=\"DeveloperNotFoundException\",method=\"getDeveloperById\"")))
+                .andExpect(content().string(CoreMatchers.containsString(
+                        "spring_data_repository_invocations_seconds_bucket{exception=\"None\",method=\"findById\",repository=\"DeveloperRepository\"")))
+                .andExpect(content().string(CoreMatchers.containsString("developer_errors_total{reason=\"not_found\"}")))
+                .andExpect(content().string(CoreMatchers.containsString("hikaricp_connections_active")));
+    }
+}
@@ -0,0 +1,98 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.repository.DeveloperArchiveRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.util.DataUtils;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "app.archive.developers.retention=0s",
+                "app.archive.developers.chunk-size=1",
+                "app.change-feed.retention=0s"
+        })
+class ItDeveloperArchiveTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperArchiveRepository developerArchiveRepository;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        developerArchiveRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test archive run moves soft-deleted developers to the archive table")
+    void givenSoftDeletedDevelopers_whenArchiveRun_thenOnlyDeletedDevelopersAreMoved() throws Exception {
+        //given
+        DeveloperEntity john = developerService.saveDeveloper(DataUtils.getJohnDoeTransient());
+        DeveloperEntity mike = developerService.saveDeveloper(DataUtils.getMikeSmithTransient());
+        DeveloperEntity frank = developerService.saveDeveloper(DataUtils.getFrankJonesTransient());
+        developerService.softDeleteById(john.getId());
+        developerService.softDeleteById(mike.getId());
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/archive/run"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived", CoreMatchers.is(2)));
+        assertThat(developerRepository.findAll()).extracting(DeveloperEntity::getId).containsExactly(frank.getId());
+        assertThat(developerArchiveRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test archived developer is looked up by id and email")
+    void givenArchivedDeveloper_whenGetArchived_thenArchivedRecordIsReturned() throws Exception {
+        //given
+        DeveloperEntity john = developerService.saveDeveloper(DataUtils.getJohnDoeTransient());
+        developerService.softDeleteById(john.getId());
+        mockMvc.perform(post("/api/v1/developers/archive/run"))
+                .andExpect(status().isOk());
+        //when
+        ResultActions byId = mockMvc.perform(get("/api/v1/developers/archive/" + john.getId()));
+        ResultActions byEmail = mockMvc.perform(get("/api/v1/developers/archive").param("email", john.getEmail()));
+        //then
+        byId
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", CoreMatchers.is(john.getEmail())))
+                .andExpect(jsonPath("$.deletedAt", CoreMatchers.notNullValue()));
+        byEmail
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$[0].id", CoreMatchers.is(john.getId())));
+    }
+}
@@ -0,0 +1,119 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "app.change-feed.poll-interval=100ms"})
+class ItDeveloperChangeFeedTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test developer changes are streamed from a sequence number")
+    void givenSince_whenDevelopersChange_thenChangesAreStreamedInOrder() throws Exception {
+        //given
+        long since = developerChangeRepository.findLastId();
+        DeveloperEntity created = developerService.saveDeveloper(DataUtils.getJohnDoeTransient());
+        //when
+        CompletableFuture<List<String>> events = readEvents("?since=" + since, null, 2);
+        developerService.softDeleteById(created.getId());
+        //then
+        List<String> received = events.get(10, TimeUnit.SECONDS);
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0)).contains("event:CREATED").contains(created.getEmail());
+        assertThat(received.get(1)).contains("event:SOFT_DELETED").contains("\"developerId\":" + created.getId());
+    }
+
+    @Test
+    @DisplayName("Test reconnecting subscriber resumes after its last event id")
+    void givenLastEventId_whenSubscribe_thenOnlyLaterChangesAreStreamed() throws Exception {
+        //given
+        long since = developerChangeRepository.findLastId();
+        developerService.saveDeveloper(DataUtils.getJohnDoeTransient());
+        DeveloperEntity mike = developerService.saveDeveloper(DataUtils.getMikeSmithTransient());
+        List<String> first = readEvents("?since=" + since, null, 2).get(10, TimeUnit.SECONDS);
+        String lastEventId = first.get(0).lines()
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring(3))
+                .findFirst()
+                .orElseThrow();
+        //when
+        List<String> resumed = readEvents("", lastEventId, 1).get(10, TimeUnit.SECONDS);
+        //then
+        assertThat(resumed).hasSize(1);
+        assertThat(resumed.get(0)).contains("event:CREATED").contains(mike.getEmail());
+    }
+
+    /**
+     * Collects the first {@code count} events of the stream, each as its lines joined by newlines.
+     */
+    private CompletableFuture<List<String>> readEvents(String query, String lastEventId, int count) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/developers/events" + query));
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                .thenApply(response -> {
+                    try (Stream<String> lines = response.body()) {
+                        List<String> events = new ArrayList<>();
+                        StringBuilder event = new StringBuilder();
+                        Iterator<String> iterator = lines.iterator();
+                        while (events.size() < count && iterator.hasNext()) {
+                            String line = iterator.next();
+                            if (!line.isEmpty()) {
+                                event.append(line).append('\n');
+                            } else if (event.indexOf("id:") >= 0) {
+                                events.add(event.toString());
+                                event.setLength(0);
+                            } else {
+                                event.setLength(0);
+                            }
+                        }
+                        return events;
+                    }
+                });
+    }
+}
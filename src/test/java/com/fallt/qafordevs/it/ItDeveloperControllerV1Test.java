@@ -1,8 +1,11 @@
 package com.fallt.qafordevs.it;
 
 import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
 import com.fallt.qafordevs.entity.DeveloperEntity;
 import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.index.SpecialityIndexLoader;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
 import com.fallt.qafordevs.repository.DeveloperRepository;
 import com.fallt.qafordevs.util.DataUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,14 +16,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,9 +46,17 @@ class ItDeveloperControllerV1Test {
     @Autowired
     private DeveloperRepository developerRepository;
 
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    @Autowired
+    private SpecialityIndexLoader specialityIndexLoader;
+
     @BeforeEach
     public void setUp() {
         developerRepository.deleteAll();
+        developerChangeRepository.deleteAll();
+        specialityIndexLoader.rebuild();
     }
 
     @Test
@@ -85,6 +101,54 @@ class ItDeveloperControllerV1Test {
                 .andExpect(jsonPath("$.message", CoreMatchers.is(message)));
     }
 
+    @Test
+    @DisplayName("Test create developers batch functionality")
+    void givenBatchWithDuplicateEmail_whenCreateDevelopers_thenUniqueAreCreated() throws Exception {
+        //given
+        DeveloperEntity existing = DataUtils.getFrankJonesTransient();
+        developerRepository.save(existing);
+        List<DeveloperDto> dtos = List.of(
+                DataUtils.getJohnDoeDtoTransient(),
+                DataUtils.getMikeSmithDtoTransient(),
+                DataUtils.getFrankJonesDtoTransient());
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", CoreMatchers.is("CREATED")))
+                .andExpect(jsonPath("$[1].status", CoreMatchers.is("CREATED")))
+                .andExpect(jsonPath("$[2].status", CoreMatchers.is("DUPLICATE_EMAIL")))
+                .andExpect(jsonPath("$[2].message", CoreMatchers.is("Email frank.jones@gmail.com already use")));
+        assertThat(developerRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test create developers batch ignores the version of echoed developers")
+    void givenBatchItemWithVersion_whenCreateDevelopers_thenDeveloperIsCreated() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        dto.setVersion(3L);
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(dto))));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", CoreMatchers.is("CREATED")))
+                .andExpect(jsonPath("$[0].id", CoreMatchers.notNullValue()));
+        DeveloperEntity created = developerRepository.findByEmail(dto.getEmail()).orElseThrow();
+        assertThat(created.getVersion()).isZero();
+        assertThat(developerChangeRepository.findAll())
+                .extracting(DeveloperChangeEntity::getDeveloperId)
+                .containsExactly(created.getId());
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() throws Exception {
@@ -158,6 +222,86 @@ class ItDeveloperControllerV1Test {
                 .andExpect(jsonPath("$.message", CoreMatchers.is("Developer with ID: " + id + " not found")));
     }
 
+    @Test
+    @DisplayName("Test get all developers functionality")
+    void givenThreeDevelopersAndTwoAreActive_whenGetAll_thenActiveAreReturnedPageByPage() throws Exception {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getFrankJonesTransient();
+        DeveloperEntity developer3 = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        ResultActions firstPage = mockMvc.perform(get("/api/v1/developers")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON));
+        ResultActions lastPage = mockMvc.perform(get("/api/v1/developers")
+                .param("afterId", String.valueOf(developer1.getId()))
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        firstPage
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.content[0].email", CoreMatchers.is(developer1.getEmail())))
+                .andExpect(jsonPath("$.nextCursor", CoreMatchers.is(developer1.getId())));
+        lastPage
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.content[0].email", CoreMatchers.is(developer3.getEmail())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get all developers by speciality functionality")
+    void givenCreatedAndDeletedDevelopers_whenGetBySpeciality_thenOnlyActiveAreReturned() throws Exception {
+        //given
+        for (DeveloperDto dto : List.of(DataUtils.getJohnDoeDtoTransient(), DataUtils.getMikeSmithDtoTransient())) {
+            mockMvc.perform(post("/api/v1/developers")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isOk());
+        }
+        DeveloperEntity deletedDeveloper = developerRepository.findByEmail("john.doe@gmail.com").orElseThrow();
+        mockMvc.perform(delete("/api/v1/developers/" + deletedDeveloper.getId()))
+                .andExpect(status().isOk());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Java")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$[0].email", CoreMatchers.is("mike.smith@gmail.com")));
+    }
+
+    @Test
+    @DisplayName("Test export active developers functionality")
+    void givenThreeDevelopersAndTwoAreActive_whenExport_thenActiveAreStreamedAsNdjson() throws Exception {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getFrankJonesTransient();
+        DeveloperEntity developer3 = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/developers/export")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        String body = result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<DeveloperDto> exported = body.lines()
+                .map(this::readDeveloper)
+                .toList();
+        assertThat(exported).extracting(DeveloperDto::getEmail)
+                .containsExactly(developer1.getEmail(), developer3.getEmail());
+    }
+
     @Test
     @DisplayName("Test soft delete developer functionality")
     void givenId_whenSoftDelete_thenSuccessResponse() throws Exception {
@@ -176,6 +320,86 @@ class ItDeveloperControllerV1Test {
 
     }
 
+    @Test
+    @DisplayName("Test update developer with outdated version functionality")
+    void givenDeveloperDtoWithOutdatedVersion_whenUpdateDeveloper_thenConflictResponse() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperDto dto = DeveloperDto.toDto(entity);
+        dto.setLastName("Updated");
+        mockMvc.perform(put("/api/v1/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", CoreMatchers.is(entity.getVersion().intValue() + 1)));
+        //when
+        ResultActions result = mockMvc.perform(put("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", CoreMatchers.is(409)));
+    }
+
+    @Test
+    @DisplayName("Test conditional get developer by id functionality")
+    void givenEtagOfDeveloper_whenDeveloperIsUpdated_thenEtagIsReplaced() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        String etag = mockMvc.perform(get("/api/v1/developers/" + entity.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/developers/" + entity.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        DeveloperDto dto = DeveloperDto.toDto(entity);
+        dto.setLastName("Updated");
+        mockMvc.perform(put("/api/v1/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/" + entity.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, CoreMatchers.not(etag)))
+                .andExpect(jsonPath("$.lastName", CoreMatchers.is("Updated")));
+    }
+
+    @Test
+    @DisplayName("Test conditional get developers by speciality functionality")
+    void givenEtagOfSpeciality_whenDeveloperIsCreated_thenEtagIsReplaced() throws Exception {
+        //given
+        mockMvc.perform(post("/api/v1/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DataUtils.getJohnDoeDtoTransient())))
+                .andExpect(status().isOk());
+        String etag = mockMvc.perform(get("/api/v1/developers/speciality/Java"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/developers/speciality/Java")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(post("/api/v1/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DataUtils.getMikeSmithDtoTransient())))
+                .andExpect(status().isOk());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Java")
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, CoreMatchers.not(etag)))
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(2)));
+    }
+
     @Test
     @DisplayName("Test soft delete developer by incorrect id functionality")
     void givenIncorrectId_whenSoftDelete_thenErrorResponse() throws Exception {
@@ -226,4 +450,12 @@ class ItDeveloperControllerV1Test {
                 .andExpect(jsonPath("$.status", CoreMatchers.is(404)))
                 .andExpect(jsonPath("$.message", CoreMatchers.is("Developer with ID: " + id + " not found")));
     }
+
+    private DeveloperDto readDeveloper(String line) {
+        try {
+            return objectMapper.readValue(line, DeveloperDto.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.index.SpecialityIndexLoader;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItDeveloperControllerV2Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private SpecialityIndexLoader specialityIndexLoader;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        specialityIndexLoader.rebuild();
+    }
+
+    @Test
+    @DisplayName("Test create developer functionality")
+    void givenDeveloperDto_whenCreateDeveloper_thenDeveloperIsStoredWithSequenceId() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        //when
+        ResultActions result = perform(post("/api/v2/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", CoreMatchers.notNullValue()))
+                .andExpect(jsonPath("$.status", CoreMatchers.is("ACTIVE")));
+        DeveloperEntity storedDeveloper = developerRepository.findByEmail(dto.getEmail()).orElseThrow();
+        DeveloperEntity jpaDeveloper = developerRepository.save(DataUtils.getMikeSmithTransient());
+        assertThat(jpaDeveloper.getId()).isNotEqualTo(storedDeveloper.getId());
+    }
+
+    @Test
+    @DisplayName("Test create developer with duplicate email functionality")
+    void givenDeveloperDtoWithDuplicateEmail_whenCreateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        //when
+        ResultActions result = perform(post("/api/v2/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", CoreMatchers.is("Email john.doe@gmail.com already use")));
+    }
+
+    @Test
+    @DisplayName("Test stream all developers functionality")
+    void givenThreeDevelopersAndTwoAreActive_whenGetAll_thenActiveAreStreamedAsNdjson() throws Exception {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getFrankJonesTransient();
+        DeveloperEntity developer3 = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        ResultActions result = perform(get("/api/v2/developers")
+                .accept(MediaType.APPLICATION_NDJSON));
+        //then
+        String body = result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<String> emails = body.lines()
+                .map(this::readDeveloper)
+                .map(DeveloperDto::getEmail)
+                .toList();
+        assertThat(emails).containsExactly(developer1.getEmail(), developer3.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test update and soft delete developer functionality")
+    void givenCreatedDeveloper_whenUpdatedAndSoftDeleted_thenChangesAreVisibleToV1() throws Exception {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperDto dto = DeveloperDto.toDto(developer);
+        dto.setSpeciality("Kotlin");
+        //when
+        ResultActions updated = perform(put("/api/v2/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        ResultActions deleted = perform(delete("/api/v2/developers/" + developer.getId()));
+        //then
+        updated
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.speciality", CoreMatchers.is("Kotlin")));
+        deleted.andExpect(status().isOk());
+        DeveloperEntity obtainedEntity = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(obtainedEntity.getSpeciality()).isEqualTo("Kotlin");
+        assertThat(obtainedEntity.getStatus()).isEqualTo(Status.DELETED);
+        mockMvc.perform(get("/api/v1/developers/" + developer.getId()))
+                .andExpect(jsonPath("$.status", CoreMatchers.is("DELETED")));
+    }
+
+    @Test
+    @DisplayName("Test hard delete developer by incorrect id functionality")
+    void givenIncorrectId_whenHardDelete_thenErrorResponse() throws Exception {
+        //given
+        String id = "999";
+        //when
+        ResultActions result = perform(delete("/api/v2/developers/" + id)
+                .param("isHard", "true"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", CoreMatchers.is("Developer with ID: " + id + " not found")));
+    }
+
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(asyncResult));
+    }
+
+    private DeveloperDto readDeveloper(String line) {
+        try {
+            return objectMapper.readValue(line, DeveloperDto.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.service.ReactiveDeveloperService;
+import com.fallt.qafordevs.util.DataUtils;
+import com.jayway.jsonpath.JsonPath;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "app.sync.developers.settle-window=0s"})
+class ItDeveloperDeltaSyncTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private ReactiveDeveloperService reactiveDeveloperService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        developerChangeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test delta sync returns changes and tombstones after the watermark")
+    void givenWatermark_whenDevelopersChange_thenOnlyLaterChangesAreReturned() throws Exception {
+        //given
+        DeveloperEntity mike = developerService.saveDeveloper(DataUtils.getMikeSmithTransient());
+        DeveloperEntity frank = developerService.saveDeveloper(DataUtils.getFrankJonesTransient());
+        String initialSync = mockMvc.perform(get("/api/v1/developers/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()", CoreMatchers.is(2)))
+                .andExpect(jsonPath("$.hasMore", CoreMatchers.is(false)))
+                .andReturn().getResponse().getContentAsString();
+        String watermark = JsonPath.read(initialSync, "$.watermark");
+        DeveloperEntity john = developerService.saveDeveloper(DataUtils.getJohnDoeTransient());
+        developerService.softDeleteById(mike.getId());
+        developerService.hardDeleteById(frank.getId());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/changes")
+                .param("since", watermark));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.changed[0].id", CoreMatchers.is(john.getId())))
+                .andExpect(jsonPath("$.deleted", containsInAnyOrder(mike.getId(), frank.getId())))
+                .andExpect(jsonPath("$.hasMore", CoreMatchers.is(false)));
+    }
+
+    @Test
+    @DisplayName("Test delta sync returns tombstones of developers deleted through the reactive api")
+    void givenWatermark_whenDevelopersChangeThroughReactiveApi_thenChangesAndTombstonesAreReturned() throws Exception {
+        //given
+        DeveloperEntity mike = developerService.saveDeveloper(DataUtils.getMikeSmithTransient());
+        String initialSync = mockMvc.perform(get("/api/v1/developers/changes"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String watermark = JsonPath.read(initialSync, "$.watermark");
+        DeveloperEntity john = reactiveDeveloperService.saveDeveloper(DataUtils.getJohnDoeTransient()).block();
+        reactiveDeveloperService.hardDeleteById(mike.getId()).block();
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/changes")
+                .param("since", watermark));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.changed[0].id", CoreMatchers.is(john.getId())))
+                .andExpect(jsonPath("$.deleted", containsInAnyOrder(mike.getId())));
+        assertThat(developerChangeRepository.findAll())
+                .extracting(DeveloperChangeEntity::getType)
+                .containsExactlyInAnyOrder(DeveloperChangeType.CREATED, DeveloperChangeType.CREATED,
+                        DeveloperChangeType.HARD_DELETED);
+    }
+
+    @Test
+    @DisplayName("Test initial sync is paged by watermark")
+    void givenMoreDevelopersThanPageSize_whenSyncWithoutSince_thenPagesFollowTheWatermark() throws Exception {
+        //given
+        developerService.saveDeveloper(DataUtils.getJohnDoeTransient());
+        developerService.saveDeveloper(DataUtils.getMikeSmithTransient());
+        String firstPage = mockMvc.perform(get("/api/v1/developers/changes").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].email", CoreMatchers.is("john.doe@gmail.com")))
+                .andExpect(jsonPath("$.hasMore", CoreMatchers.is(true)))
+                .andReturn().getResponse().getContentAsString();
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/changes")
+                .param("since", JsonPath.<String>read(firstPage, "$.watermark"))
+                .param("size", "1"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].email", CoreMatchers.is("mike.smith@gmail.com")));
+    }
+}
@@ -0,0 +1,120 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.DataIntegrityViolations;
+import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ItDeveloperEmailUniquenessTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        developerChangeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test concurrent create with the same email functionality")
+    void givenConcurrentCreatesWithSameEmail_whenSaveDeveloper_thenOnlyOneIsStored() throws Exception {
+        //given
+        String email = "race@gmail.com";
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS * 4; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    DeveloperEntity developer = DataUtils.getJohnDoeTransient();
+                    developer.setEmail(email);
+                    try {
+                        developerService.saveDeveloper(developer);
+                        return true;
+                    } catch (DeveloperWithDuplicateEmailException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+        //then
+        long created = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get()) {
+                created++;
+            }
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(developerRepository.findAll()).filteredOn(d -> email.equals(d.getEmail())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Test batch create racing a concurrent insert of the same email functionality")
+    void givenConcurrentUncommittedInsert_whenSaveDevelopers_thenTranslatedExceptionIsThrown() throws Exception {
+        //given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> concurrentInsert = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    developerRepository.saveAndFlush(DataUtils.getJohnDoeTransient());
+                    inserted.countDown();
+                    try {
+                        commit.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        //when
+        CompletableFuture<?> batch = CompletableFuture.supplyAsync(() ->
+                developerService.saveDevelopers(List.of(DataUtils.getJohnDoeTransient())));
+        Thread.sleep(500);
+        commit.countDown();
+        concurrentInsert.get(10, TimeUnit.SECONDS);
+        //then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> batch.get(20, TimeUnit.SECONDS));
+        assertThat(failure.getCause()).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(DataIntegrityViolations.isDuplicateEmail(failure.getCause())).isTrue();
+        assertThat(developerRepository.findAll()).hasSize(1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.util.DataUtils;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItDeveloperImportControllerV1Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        developerChangeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test import developers functionality")
+    void givenCsvWithRejectedRows_whenImportDevelopers_thenOnlyValidRowsAreStored() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getFrankJonesTransient());
+        String csv = """
+                email,first_name,last_name,speciality
+                john.doe@gmail.com,John,Doe,Java
+                mike.smith@gmail.com,"Mike",Smith,Java
+                john.doe@gmail.com,John,Doe,Java
+                frank.jones@gmail.com,Frank,Jones,Java
+                ,No,Email,Java
+                """;
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType("text/csv")
+                .content(csv));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead", CoreMatchers.is(5)))
+                .andExpect(jsonPath("$.rowsImported", CoreMatchers.is(2)))
+                .andExpect(jsonPath("$.rowsRejected", CoreMatchers.is(3)))
+                .andExpect(jsonPath("$.rejections[0].row", CoreMatchers.is(3)))
+                .andExpect(jsonPath("$.rejections[0].reason", CoreMatchers.is("DUPLICATE_IN_FILE")))
+                .andExpect(jsonPath("$.rejections[1].row", CoreMatchers.is(4)))
+                .andExpect(jsonPath("$.rejections[1].reason", CoreMatchers.is("DUPLICATE_EMAIL")))
+                .andExpect(jsonPath("$.rejections[2].row", CoreMatchers.is(5)))
+                .andExpect(jsonPath("$.rejections[2].reason", CoreMatchers.is("MISSING_EMAIL")));
+        List<DeveloperEntity> developers = developerRepository.findAll();
+        assertThat(developers).hasSize(3);
+        assertThat(developers).extracting(DeveloperEntity::getStatus).containsOnly(Status.ACTIVE, Status.DELETED);
+        assertThat(developers).extracting(DeveloperEntity::getId).doesNotHaveDuplicates();
+    }
+}
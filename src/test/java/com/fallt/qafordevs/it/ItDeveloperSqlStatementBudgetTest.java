@@ -0,0 +1,217 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.index.SpecialityIndexLoader;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static com.fallt.qafordevs.util.SqlStatementCountMatchers.maxSqlStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItDeveloperSqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    @Autowired
+    private SpecialityIndexLoader specialityIndexLoader;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        developerChangeRepository.deleteAll();
+        specialityIndexLoader.rebuild();
+    }
+
+    @Test
+    @DisplayName("Test create developer statement budget functionality")
+    void givenDeveloperDto_whenCreateDeveloper_thenStatementBudgetKept() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(4));
+    }
+
+    @Test
+    @DisplayName("Test create developers batch statement budget functionality")
+    void givenDeveloperDtos_whenCreateDevelopers_thenStatementBudgetKept() throws Exception {
+        //given
+        List<DeveloperDto> dtos = List.of(DataUtils.getJohnDoeDtoTransient(), DataUtils.getMikeSmithDtoTransient(),
+                DataUtils.getFrankJonesDtoTransient());
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(7));
+    }
+
+    @Test
+    @DisplayName("Test update developer statement budget functionality")
+    void givenPersistedDeveloper_whenUpdateDeveloper_thenStatementBudgetKept() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperDto dto = DataUtils.getJohnDoeDtoPersisted();
+        dto.setId(entity.getId());
+        dto.setLastName("Updated");
+        //when
+        ResultActions result = mockMvc.perform(put("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(4));
+    }
+
+    @Test
+    @DisplayName("Test patch developer statement budget functionality")
+    void givenPersistedDeveloper_whenPatchDeveloper_thenStatementBudgetKept() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        ResultActions result = mockMvc.perform(patch("/api/v1/developers/" + entity.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Updated\"}"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastName", CoreMatchers.is("Updated")))
+                .andExpect(jsonPath("$.email", CoreMatchers.is("john.doe@gmail.com")))
+                .andExpect(maxSqlStatements(4));
+    }
+
+    @Test
+    @DisplayName("Test get developer by id statement budget functionality")
+    void givenPersistedDeveloper_whenGetById_thenStatementBudgetKept() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/" + entity.getId()));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(1));
+    }
+
+    @Test
+    @DisplayName("Test get all developers statement budget functionality")
+    void givenPersistedDevelopers_whenGetAll_thenStatementBudgetKept() throws Exception {
+        //given
+        developerRepository.saveAll(List.of(DataUtils.getJohnDoeTransient(), DataUtils.getMikeSmithTransient(),
+                DataUtils.getFrankJonesTransient()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers").param("size", "20"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(1));
+    }
+
+    @Test
+    @DisplayName("Test get developers by speciality statement budget functionality")
+    void givenIndexedDevelopers_whenGetBySpeciality_thenStatementBudgetKept() throws Exception {
+        //given
+        developerRepository.saveAll(List.of(DataUtils.getJohnDoeTransient(), DataUtils.getMikeSmithTransient()));
+        specialityIndexLoader.rebuild();
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Java"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(0));
+    }
+
+    @Test
+    @DisplayName("Test search developers statement budget functionality")
+    void givenIndexedDevelopers_whenSearch_thenStatementBudgetKept() throws Exception {
+        //given
+        developerRepository.saveAll(List.of(DataUtils.getJohnDoeTransient(), DataUtils.getMikeSmithTransient()));
+        specialityIndexLoader.rebuild();
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/search").param("q", "smith"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(0));
+    }
+
+    @Test
+    @DisplayName("Test autocomplete names statement budget functionality")
+    void givenIndexedDevelopers_whenCompleteNames_thenStatementBudgetKept() throws Exception {
+        //given
+        developerRepository.saveAll(List.of(DataUtils.getJohnDoeTransient(), DataUtils.getMikeSmithTransient()));
+        specialityIndexLoader.rebuild();
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/autocomplete/names").param("prefix", "mi"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(0));
+    }
+
+    @Test
+    @DisplayName("Test soft delete developer statement budget functionality")
+    void givenPersistedDeveloper_whenSoftDelete_thenStatementBudgetKept() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        ResultActions result = mockMvc.perform(delete("/api/v1/developers/" + entity.getId()));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(4));
+    }
+
+    @Test
+    @DisplayName("Test hard delete developer statement budget functionality")
+    void givenPersistedDeveloper_whenHardDelete_thenStatementBudgetKept() throws Exception {
+        //given
+        DeveloperEntity entity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        ResultActions result = mockMvc.perform(delete("/api/v1/developers/" + entity.getId())
+                .param("isHard", "true"));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(maxSqlStatements(3));
+    }
+}
@@ -0,0 +1,82 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.service.DeveloperWriteBehindQueue;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "app.write-behind.developers.enabled=true",
+        "app.write-behind.developers.max-batch-size=2",
+        "app.write-behind.developers.max-linger=5s"
+})
+class ItDeveloperWriteBehindTest {
+
+    @Autowired
+    private DeveloperWriteBehindQueue developerWriteBehindQueue;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperChangeRepository developerChangeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        developerChangeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test batch losing an email to a concurrent insert falls back to one transaction per developer")
+    void givenConcurrentUncommittedInsert_whenBatchIsWritten_thenEveryDeveloperIsSavedAlone() throws Exception {
+        //given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> concurrentInsert = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    developerRepository.saveAndFlush(DataUtils.getJohnDoeTransient());
+                    inserted.countDown();
+                    try {
+                        commit.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        //when
+        CompletableFuture<DeveloperEntity> john = developerWriteBehindQueue.submit(DataUtils.getJohnDoeTransient());
+        CompletableFuture<DeveloperEntity> mike = developerWriteBehindQueue.submit(DataUtils.getMikeSmithTransient());
+        Thread.sleep(500);
+        commit.countDown();
+        concurrentInsert.get(10, TimeUnit.SECONDS);
+        //then
+        assertThat(mike.get(20, TimeUnit.SECONDS).getId()).isNotNull();
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> john.get(20, TimeUnit.SECONDS));
+        assertThat(failure.getCause()).isInstanceOf(DeveloperWithDuplicateEmailException.class);
+        assertThat(developerRepository.findAll()).extracting(DeveloperEntity::getEmail)
+                .containsExactlyInAnyOrder("john.doe@gmail.com", "mike.smith@gmail.com");
+    }
+}
@@ -0,0 +1,121 @@
+package com.fallt.qafordevs.it;
+
+import com.fallt.qafordevs.config.ReadYourWritesFilter;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import com.fallt.qafordevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "app.datasource.read-replicas.enabled=true",
+                "app.datasource.read-replicas.replicas[0].url=" + ItReadReplicaRoutingTest.REPLICA_URL,
+                "app.datasource.read-replicas.replicas[0].username=sa",
+                "app.datasource.read-replicas.replicas[0].password="
+        })
+class ItReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_EMAIL = "replica.only@gmail.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    /**
+     * Stands in for a physical replica: same tables, but rows the primary does not have, so a response shows
+     * which database served it.
+     */
+    @BeforeAll
+    static void createReplica() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS developers (
+                        id INTEGER PRIMARY KEY, email VARCHAR(255), first_name VARCHAR(255), last_name VARCHAR(255),
+                        speciality VARCHAR(255), status VARCHAR(255), version BIGINT,
+                        updated_at TIMESTAMP(6) WITH TIME ZONE)""");
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS developer_changes (
+                        id BIGINT PRIMARY KEY, type VARCHAR(255), developer_id INTEGER, email VARCHAR(255),
+                        first_name VARCHAR(255), last_name VARCHAR(255), speciality VARCHAR(255), status VARCHAR(255),
+                        version BIGINT, occurred_at TIMESTAMP(6) WITH TIME ZONE)""");
+            statement.execute("DELETE FROM developers");
+            statement.execute("INSERT INTO developers (id, email, first_name, last_name, speciality, status, version) " +
+                    "VALUES (1000000, '" + REPLICA_EMAIL + "', 'Replica', 'Only', 'Java', 'ACTIVE', 0)");
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test read-only listing is served by the replica")
+    void givenReplica_whenGetAllDevelopers_thenReplicaRowsAreReturned() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.content[0].email", CoreMatchers.is(REPLICA_EMAIL)));
+    }
+
+    @Test
+    @DisplayName("Test client reads its own write from the primary after a mutation")
+    void givenCreatedDeveloper_whenClientReadsWithinWindow_thenPrimaryRowsAreReturned() throws Exception {
+        //given
+        Cookie primaryReads = mockMvc.perform(post("/api/v1/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DataUtils.getJohnDoeDtoTransient())))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers").cookie(primaryReads));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.content[0].email", CoreMatchers.is("john.doe@gmail.com")));
+    }
+}
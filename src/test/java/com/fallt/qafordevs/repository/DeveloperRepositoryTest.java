@@ -1,17 +1,23 @@
 package com.fallt.qafordevs.repository;
 
 import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.Status;
 import com.fallt.qafordevs.util.DataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.util.CollectionUtils;
 
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -21,6 +27,9 @@ class DeveloperRepositoryTest {
     @Autowired
     private DeveloperRepository developerRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     public void setUp() {
         developerRepository.deleteAll();
@@ -117,6 +126,20 @@ class DeveloperRepositoryTest {
         assertThat(obtainedDeveloper.getEmail()).isEqualTo(email);
     }
 
+    @Test
+    @DisplayName("Test find existing emails functionality")
+    void givenTwoDevelopersSaved_whenFindExistingEmails_thenOnlyStoredEmailsAreReturned() {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        Set<String> existingEmails = developerRepository.findExistingEmails(
+                List.of("john.doe@gmail.com", "frank.jones@gmail.com"));
+        //then
+        assertThat(existingEmails).containsExactly("john.doe@gmail.com");
+    }
+
     @Test
     @DisplayName("Get all active developers by speciality")
     void givenThreeDevelopersAndTwoAreActive_whenFindAllActiveBySpeciality_thenReturnedOnlyTwoDevelopers() {
@@ -131,6 +154,56 @@ class DeveloperRepositoryTest {
         assertThat(activeDevelopers).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Count active developers by speciality")
+    void givenThreeDevelopersAndTwoAreActive_whenCountActiveBySpeciality_thenOnlyActiveAreCounted() {
+        //given
+        DeveloperEntity developer1 = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developer2 = developerRepository.save(DataUtils.getMikeSmithTransient());
+        developerRepository.save(DataUtils.getFrankJonesTransient());
+        //when
+        List<SpecialityCount> counts = developerRepository.countActiveBySpeciality();
+        //then
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0).getSpeciality()).isEqualTo("Java");
+        assertThat(counts.get(0).getDevelopers()).isEqualTo(2);
+        assertThat(counts.get(0).getIdChecksum()).isEqualTo(developer1.getId() + developer2.getId());
+        assertThat(counts.get(0).getVersionChecksum()).isEqualTo(developer1.getVersion() + developer2.getVersion());
+    }
+
+    @Test
+    @DisplayName("Get page of active developers after cursor")
+    void givenThreeDevelopersAndTwoAreActive_whenFindActivePage_thenOnlyActiveAfterCursorAreReturned() {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getFrankJonesTransient();
+        DeveloperEntity developer3 = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperEntity> firstPage = developerRepository.findActivePage(0, Limit.of(1));
+        List<DeveloperEntity> secondPage = developerRepository.findActivePage(firstPage.get(0).getId(), Limit.of(1));
+        //then
+        assertThat(firstPage).extracting(DeveloperEntity::getId).containsExactly(developer1.getId());
+        assertThat(secondPage).extracting(DeveloperEntity::getId).containsExactly(developer3.getId());
+    }
+
+    @Test
+    @DisplayName("Stream all active developers")
+    void givenThreeDevelopersAndTwoAreActive_whenStreamAllActive_thenOnlyActiveAreStreamedInIdOrder() {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getFrankJonesTransient();
+        DeveloperEntity developer3 = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<Integer> streamedIds;
+        try (Stream<DeveloperEntity> developers = developerRepository.streamAllActive()) {
+            streamedIds = developers.map(DeveloperEntity::getId).toList();
+        }
+        //then
+        assertThat(streamedIds).containsExactly(developer1.getId(), developer3.getId());
+    }
+
     @Test
     @DisplayName("Test delete developer by id functionality")
     void givenDeveloperIsSaved_whenDeletedById_thenDeveloperIsRemovedFromDB() {
@@ -144,4 +217,136 @@ class DeveloperRepositoryTest {
         assertThat(optionalDeveloper).isEmpty();
     }
 
+    @Test
+    @DisplayName("Test update developer with current version functionality")
+    void givenDeveloperWithCurrentVersion_whenUpdateDeveloper_thenRowIsUpdatedAndVersionIncremented() {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerToUpdate = developer.toBuilder()
+                .email("updated@gmail.com")
+                .build();
+        //when
+        int updatedRows = developerRepository.updateDeveloper(developerToUpdate);
+        //then
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo("updated@gmail.com");
+        assertThat(obtainedDeveloper.getVersion()).isEqualTo(developer.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Test update developer with outdated version functionality")
+    void givenDeveloperWithOutdatedVersion_whenUpdateDeveloper_thenNoRowIsUpdated() {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerToUpdate = developer.toBuilder()
+                .email("updated@gmail.com")
+                .version(developer.getVersion() - 1)
+                .build();
+        //when
+        int updatedRows = developerRepository.updateDeveloper(developerToUpdate);
+        //then
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(updatedRows).isZero();
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo("john.doe@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Test find active page returns unmanaged developers functionality")
+    void givenDeveloperIsSaved_whenFindActivePage_thenUnmanagedCopyIsReturned() {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        entityManager.flush();
+        entityManager.clear();
+        //when
+        List<DeveloperEntity> obtainedDevelopers = developerRepository.findActivePage(0, Limit.of(20));
+        //then
+        assertThat(obtainedDevelopers).hasSize(1);
+        assertThat(obtainedDevelopers.get(0).getEmail()).isEqualTo("john.doe@gmail.com");
+        assertThat(obtainedDevelopers.get(0).getVersion()).isEqualTo(developer.getVersion());
+        assertThat(entityManager.getEntityManager().contains(obtainedDevelopers.get(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test search active developers functionality")
+    void givenActiveAndDeletedDevelopers_whenSearchActive_thenOnlyActiveMatchesAreReturned() {
+        //given
+        DeveloperEntity deletedDeveloper = DataUtils.getMikeSmithTransient();
+        deletedDeveloper.setStatus(Status.DELETED);
+        developerRepository.saveAll(List.of(DataUtils.getJohnDoeTransient(), deletedDeveloper));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = developerRepository.searchActive("%gmail%", Limit.of(20));
+        List<DeveloperEntity> escapedDevelopers = developerRepository.searchActive("%john\\_%", Limit.of(20));
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperEntity::getEmail).containsExactly("john.doe@gmail.com");
+        assertThat(escapedDevelopers).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test patch developer functionality")
+    void givenChangedLastName_whenPatchDeveloper_thenOnlyLastNameIsUpdated() {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity changes = DeveloperEntity.builder()
+                .lastName("Updated")
+                .build();
+        //when
+        int updatedRows = developerRepository.patchDeveloper(developer.getId(), changes);
+        //then
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(obtainedDeveloper.getLastName()).isEqualTo("Updated");
+        assertThat(obtainedDeveloper.getFirstName()).isEqualTo("John");
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo("john.doe@gmail.com");
+        assertThat(obtainedDeveloper.getVersion()).isEqualTo(developer.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Test soft delete developer by id in one statement functionality")
+    void givenDeveloperIsSaved_whenSoftDeleteById_thenStatusIsDeleted() {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        int deletedRows = developerRepository.softDeleteById(developer.getId(), DeveloperEntity.currentTimestamp());
+        //then
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(obtainedDeveloper.getStatus()).isEqualTo(Status.DELETED);
+    }
+
+    @Test
+    @DisplayName("Test find changed developers after a watermark functionality")
+    void givenDevelopersChangedAtDifferentTimes_whenFindChangedPage_thenRowsAfterWatermarkAreReturnedInOrder() {
+        //given
+        Instant first = Instant.parse("2024-01-01T10:00:00Z");
+        Instant second = first.plusSeconds(1);
+        DeveloperEntity john = developerRepository.save(DataUtils.getJohnDoeTransient().toBuilder().updatedAt(first).build());
+        DeveloperEntity mike = developerRepository.save(DataUtils.getMikeSmithTransient().toBuilder().updatedAt(first).build());
+        DeveloperEntity frank = developerRepository.save(DataUtils.getFrankJonesTransient().toBuilder()
+                .status(Status.DELETED)
+                .updatedAt(second)
+                .build());
+        developerRepository.save(DeveloperEntity.builder()
+                .email("unsettled@mail.com")
+                .status(Status.ACTIVE)
+                .updatedAt(second.plusSeconds(1))
+                .build());
+        //when
+        List<DeveloperEntity> changed = developerRepository.findChangedPage(first, john.getId(), second, Limit.of(10));
+        //then
+        assertThat(changed).extracting(DeveloperEntity::getId).containsExactly(mike.getId(), frank.getId());
+        assertThat(changed.get(1).getUpdatedAt()).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Test hard delete developer by incorrect id in one statement functionality")
+    void givenIncorrectId_whenHardDeleteById_thenNoRowIsDeleted() {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        //when
+        int deletedRows = developerRepository.hardDeleteById(Integer.MAX_VALUE);
+        //then
+        assertThat(deletedRows).isZero();
+        assertThat(developerRepository.count()).isEqualTo(1);
+    }
 }
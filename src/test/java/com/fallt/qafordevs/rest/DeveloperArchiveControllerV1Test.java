@@ -0,0 +1,90 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.entity.DeveloperArchiveEntity;
+import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.service.DeveloperArchiveService;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeveloperArchiveControllerV1.class)
+class DeveloperArchiveControllerV1Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DeveloperArchiveService developerArchiveService;
+
+    @Test
+    @DisplayName("Test get archived developer by id functionality")
+    void givenArchivedId_whenGetArchivedDeveloperById_thenArchivedDeveloperIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerArchiveService.getArchivedById(1))
+                .willReturn(DeveloperArchiveEntity.builder()
+                        .id(1)
+                        .email("john.doe@gmail.com")
+                        .firstName("John")
+                        .lastName("Doe")
+                        .speciality("Java")
+                        .deletedAt(Instant.parse("2026-01-01T00:00:00Z"))
+                        .archivedAt(Instant.parse("2026-02-01T00:00:00Z"))
+                        .build());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/archive/1")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.email", CoreMatchers.is("john.doe@gmail.com")))
+                .andExpect(jsonPath("$.deletedAt", CoreMatchers.notNullValue()))
+                .andExpect(jsonPath("$.archivedAt", CoreMatchers.notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Test get archived developer by incorrect id functionality")
+    void givenIncorrectId_whenGetArchivedDeveloperById_thenNotFoundResponse() throws Exception {
+        //given
+        BDDMockito.given(developerArchiveService.getArchivedById(1))
+                .willThrow(new DeveloperNotFoundException("Archived developer with ID: 1 not found"));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/archive/1")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", CoreMatchers.is("Archived developer with ID: 1 not found")));
+    }
+
+    @Test
+    @DisplayName("Test archive run functionality")
+    void givenDeletedDevelopers_whenArchiveRun_thenArchivedCountIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerArchiveService.archiveDeleted()).willReturn(3);
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/archive/run"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived", CoreMatchers.is(3)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.cache.DeveloperCache;
+import com.fallt.qafordevs.cache.SpecialityResponseCache;
+import com.fallt.qafordevs.dto.CacheStatsDto;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeveloperCacheControllerV1.class)
+class DeveloperCacheControllerV1Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DeveloperCache developerCache;
+
+    @MockBean
+    private SpecialityResponseCache specialityResponseCache;
+
+    @Test
+    @DisplayName("Test get cache stats functionality")
+    void givenCacheStats_whenGetCacheStats_thenCountersAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerCache.stats())
+                .willReturn(List.of(CacheStatsDto.builder()
+                        .name("developersById")
+                        .size(1)
+                        .hits(3)
+                        .misses(1)
+                        .hitRate(0.75)
+                        .build()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/cache/stats")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", CoreMatchers.is("developersById")))
+                .andExpect(jsonPath("$[0].hits", CoreMatchers.is(3)))
+                .andExpect(jsonPath("$[0].misses", CoreMatchers.is(1)));
+    }
+}
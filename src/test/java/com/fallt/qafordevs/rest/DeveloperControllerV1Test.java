@@ -1,10 +1,19 @@
 package com.fallt.qafordevs.rest;
 
+import com.fallt.qafordevs.cache.SpecialityResponseCache;
+import com.fallt.qafordevs.config.SpecialityResponseCacheProperties;
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.DeveloperChangesDto;
 import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.dto.DeveloperSyncWatermark;
 import com.fallt.qafordevs.entity.DeveloperEntity;
 import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
 import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.exeption.DeveloperWriteQueueFullException;
 import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.service.DeveloperWriteBehindQueue;
 import com.fallt.qafordevs.util.DataUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.CoreMatchers;
@@ -14,20 +23,38 @@ import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest
+@WebMvcTest(DeveloperControllerV1.class)
+@Import({SpecialityResponseCache.class, SpecialityResponseCacheProperties.class})
 class DeveloperControllerV1Test {
 
     @Autowired
@@ -39,6 +66,9 @@ class DeveloperControllerV1Test {
     @MockBean
     private DeveloperService developerService;
 
+    @MockBean
+    private DeveloperWriteBehindQueue developerWriteBehindQueue;
+
     @Test
     @DisplayName("Test create developer functionality")
     void givenDeveloperDto_whenCreateDeveloper_thenSuccessResponse() throws Exception {
@@ -81,6 +111,72 @@ class DeveloperControllerV1Test {
                 .andExpect(jsonPath("$.message", CoreMatchers.is(message)));
     }
 
+    @Test
+    @DisplayName("Test create developer through the write-behind queue functionality")
+    void givenWriteBehindEnabled_whenCreateDeveloper_thenQueueSavesDeveloper() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        BDDMockito.given(developerWriteBehindQueue.isEnabled()).willReturn(true);
+        BDDMockito.given(developerWriteBehindQueue.save(any(DeveloperEntity.class)))
+                .willReturn(DataUtils.getJohnDoePersisted());
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", CoreMatchers.notNullValue()))
+                .andExpect(jsonPath("$.firstName", CoreMatchers.is("John")));
+        verify(developerService, never()).saveDeveloper(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test create developer with full write-behind queue functionality")
+    void givenFullWriteBehindQueue_whenCreateDeveloper_thenServiceUnavailableResponse() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        BDDMockito.given(developerWriteBehindQueue.isEnabled()).willReturn(true);
+        BDDMockito.given(developerWriteBehindQueue.save(any(DeveloperEntity.class)))
+                .willThrow(new DeveloperWriteQueueFullException("Developer write queue is full, try again later"));
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status", CoreMatchers.is(503)));
+    }
+
+    @Test
+    @DisplayName("Test create developers batch functionality")
+    void givenDeveloperDtos_whenCreateDevelopers_thenPerItemResultsAreReturned() throws Exception {
+        //given
+        List<DeveloperDto> dtos = List.of(DataUtils.getJohnDoeDtoTransient(), DataUtils.getJohnDoeDtoTransient());
+        BDDMockito.given(developerService.saveDevelopers(anyList()))
+                .willReturn(List.of(
+                        DeveloperBatchResultDto.builder().index(0).id(1).email("john.doe@gmail.com")
+                                .status(BatchItemStatus.CREATED).build(),
+                        DeveloperBatchResultDto.builder().index(1).email("john.doe@gmail.com")
+                                .status(BatchItemStatus.DUPLICATE_EMAIL).message("Email john.doe@gmail.com already use").build()));
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$[0].status", CoreMatchers.is("CREATED")))
+                .andExpect(jsonPath("$[1].id").doesNotExist())
+                .andExpect(jsonPath("$[1].status", CoreMatchers.is("DUPLICATE_EMAIL")));
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() throws Exception {
@@ -119,6 +215,48 @@ class DeveloperControllerV1Test {
                 .andExpect(jsonPath("$.message", CoreMatchers.is(message)));
     }
 
+    @Test
+    @DisplayName("Test patch developer functionality")
+    void givenPartialDeveloperDto_whenPatchDeveloper_thenSuccessResponse() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.builder()
+                .lastName("Updated")
+                .build();
+        DeveloperEntity entity = DataUtils.getJohnDoePersisted();
+        entity.setLastName("Updated");
+        BDDMockito.given(developerService.patchDeveloper(anyInt(), any(DeveloperEntity.class)))
+                .willReturn(entity);
+        //when
+        ResultActions result = mockMvc.perform(patch("/api/v1/developers/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", CoreMatchers.is("John")))
+                .andExpect(jsonPath("$.lastName", CoreMatchers.is("Updated")));
+        verify(developerService, times(1)).patchDeveloper(eq(1),
+                argThat(changes -> changes.getEmail() == null && "Updated".equals(changes.getLastName())));
+    }
+
+    @Test
+    @DisplayName("Test patch developer with incorrect id functionality")
+    void givenIncorrectId_whenPatchDeveloper_thenErrorResponse() throws Exception {
+        //given
+        String message = "Developer not found";
+        BDDMockito.given(developerService.patchDeveloper(anyInt(), any(DeveloperEntity.class)))
+                .willThrow(new DeveloperNotFoundException(message));
+        //when
+        ResultActions result = mockMvc.perform(patch("/api/v1/developers/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Updated\"}"));
+        //then
+        result.andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", CoreMatchers.is(404)))
+                .andExpect(jsonPath("$.message", CoreMatchers.is(message)));
+    }
+
     @Test
     @DisplayName("Test get developer by id functionality")
     void givenId_whenGetById_thenSuccessResponse() throws Exception {
@@ -156,6 +294,298 @@ class DeveloperControllerV1Test {
                 .andExpect(jsonPath("$.message", CoreMatchers.is(message)));
     }
 
+    @Test
+    @DisplayName("Test get developer by id with current etag functionality")
+    void givenCurrentEtag_whenGetById_thenNotModifiedResponse() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(anyInt()))
+                .willReturn(DataUtils.getJohnDoePersisted().toBuilder().version(3L).build());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Test get developer by id with outdated etag functionality")
+    void givenOutdatedEtag_whenGetById_thenSuccessResponseWithNewEtag() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(anyInt()))
+                .willReturn(DataUtils.getJohnDoePersisted().toBuilder().version(4L).build());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version", CoreMatchers.is(4)));
+    }
+
+    @Test
+    @DisplayName("Test get developers by speciality with current etag functionality")
+    void givenCurrentEtag_whenGetBySpeciality_thenRowsAreNotLoaded() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpecialityVersion("Java"))
+                .willReturn(Optional.of("5f-2"));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Java")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5f-2\"")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, never()).getAllActiveBySpeciality(anyString());
+        result
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5f-2\""));
+    }
+
+    @Test
+    @DisplayName("Test get developers by speciality without index version functionality")
+    void givenNoIndexVersion_whenGetBySpeciality_thenSuccessResponseWithoutEtag() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpecialityVersion("Java"))
+                .willReturn(Optional.empty());
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Java"))
+                .willReturn(List.of(DataUtils.getJohnDoePersisted()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Java")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5f-2\"")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(1)));
+    }
+
+    @Test
+    @DisplayName("Test get developers by speciality from response cache functionality")
+    void givenUnchangedIndexVersion_whenGetBySpecialityTwice_thenRowsAreLoadedOnce() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpecialityVersion("Kotlin"))
+                .willReturn(Optional.of("5f-7"));
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Kotlin"))
+                .willReturn(List.of(DataUtils.getJohnDoePersisted()));
+        mockMvc.perform(get("/api/v1/developers/speciality/Kotlin"))
+                .andExpect(status().isOk());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Kotlin")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).getAllActiveBySpeciality("Kotlin");
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$[0].email", CoreMatchers.is("john.doe@gmail.com")));
+    }
+
+    @Test
+    @DisplayName("Test get developers by speciality with gzip functionality")
+    void givenLargeListAndGzipAccepted_whenGetBySpeciality_thenCompressedBodyIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpecialityVersion("Scala"))
+                .willReturn(Optional.of("5f-1"));
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Scala"))
+                .willReturn(Collections.nCopies(50, DataUtils.getJohnDoePersisted()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Scala")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+        //then
+        byte[] body = result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, CoreMatchers.containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes())).contains("john.doe@gmail.com");
+        }
+    }
+
+    @Test
+    @DisplayName("Test get developers by speciality with gzip refused functionality")
+    void givenLargeListAndGzipRefused_whenGetBySpeciality_thenPlainBodyIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpecialityVersion("Scala"))
+                .willReturn(Optional.of("5f-2"));
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Scala"))
+                .willReturn(Collections.nCopies(50, DataUtils.getJohnDoePersisted()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/speciality/Scala")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$[0].email", CoreMatchers.is("john.doe@gmail.com")));
+    }
+
+    @Test
+    @DisplayName("Test accept encoding q-values functionality")
+    void givenAcceptEncodingWithWeights_whenAcceptsGzip_thenZeroWeightRefusesGzip() {
+        //given
+        //when
+        //then
+        assertThat(DeveloperControllerV1.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(DeveloperControllerV1.acceptsGzip("deflate, GZIP;q=0.3")).isTrue();
+        assertThat(DeveloperControllerV1.acceptsGzip("*")).isTrue();
+        assertThat(DeveloperControllerV1.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(DeveloperControllerV1.acceptsGzip("gzip; q=0.0, *")).isFalse();
+        assertThat(DeveloperControllerV1.acceptsGzip("*;q=0")).isFalse();
+        assertThat(DeveloperControllerV1.acceptsGzip("deflate, br")).isFalse();
+        assertThat(DeveloperControllerV1.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test search developers functionality")
+    void givenQuery_whenSearchDevelopers_thenRankedDevelopersAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.searchDevelopers("smi", 5))
+                .willReturn(List.of(DataUtils.getMikeSmithPersisted()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/search")
+                .param("q", "smi")
+                .param("limit", "5")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$[0].lastName", CoreMatchers.is("Smith")));
+    }
+
+    @Test
+    @DisplayName("Test autocomplete names functionality")
+    void givenPrefix_whenCompleteNames_thenCompletionsAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.completeNames("jo", 10))
+                .willReturn(List.of(new Completion("John", 2), new Completion("John Doe", 1)));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/autocomplete/names")
+                .param("prefix", "jo")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(2)))
+                .andExpect(jsonPath("$[0].value", CoreMatchers.is("John")))
+                .andExpect(jsonPath("$[0].developers", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test autocomplete specialities functionality")
+    void givenPrefix_whenCompleteSpecialities_thenCompletionsAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.completeSpecialities("ja", 3))
+                .willReturn(List.of(new Completion("Java", 5)));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/autocomplete/specialities")
+                .param("prefix", "ja")
+                .param("limit", "3")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].value", CoreMatchers.is("Java")))
+                .andExpect(jsonPath("$[0].developers", CoreMatchers.is(5)));
+    }
+
+    @Test
+    @DisplayName("Test get all developers functionality")
+    void givenFullPage_whenGetAll_thenNextCursorIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(any(), anyInt()))
+                .willReturn(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers")
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", CoreMatchers.is(2)))
+                .andExpect(jsonPath("$.nextCursor", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test get last page of developers functionality")
+    void givenLastPage_whenGetAll_thenNextCursorIsAbsent() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(any(), anyInt()))
+                .willReturn(List.of(DataUtils.getJohnDoePersisted()));
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers")
+                .param("afterId", "0")
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).getAllDevelopers(0, 2);
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get developer changes since a watermark functionality")
+    void givenWatermark_whenGetChanges_thenChangesAndNewWatermarkAreReturned() throws Exception {
+        //given
+        DeveloperSyncWatermark since = new DeveloperSyncWatermark(Instant.parse("2024-01-01T10:00:00Z"), 5, false);
+        BDDMockito.given(developerService.getChangesSince(any(DeveloperSyncWatermark.class), anyInt()))
+                .willReturn(DeveloperChangesDto.builder()
+                        .changed(List.of(DeveloperDto.toDto(DataUtils.getJohnDoePersisted())))
+                        .deleted(List.of(3))
+                        .watermark("1704103201000000.2147483647")
+                        .build());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/changes")
+                .param("since", since.encode())
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).getChangesSince(since, 500);
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].email", CoreMatchers.is("john.doe@gmail.com")))
+                .andExpect(jsonPath("$.deleted[0]", CoreMatchers.is(3)))
+                .andExpect(jsonPath("$.watermark", CoreMatchers.is("1704103201000000.2147483647")))
+                .andExpect(jsonPath("$.hasMore", CoreMatchers.is(false)));
+    }
+
+    @Test
+    @DisplayName("Test get developer changes with a malformed watermark functionality")
+    void givenMalformedWatermark_whenGetChanges_thenErrorResponse() throws Exception {
+        //given
+        String since = "yesterday";
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/changes")
+                .param("since", since)
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, never()).getChangesSince(any(), anyInt());
+        result
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", CoreMatchers.is(400)));
+    }
+
     @Test
     @DisplayName("Test soft delete developer functionality")
     void givenId_whenSoftDelete_thenSuccessResponse() throws Exception {
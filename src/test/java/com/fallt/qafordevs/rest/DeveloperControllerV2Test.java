@@ -0,0 +1,156 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.dto.DeveloperDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.service.ReactiveDeveloperService;
+import com.fallt.qafordevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeveloperControllerV2.class)
+class DeveloperControllerV2Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReactiveDeveloperService developerService;
+
+    @Test
+    @DisplayName("Test create developer functionality")
+    void givenDeveloperDto_whenCreateDeveloper_thenSuccessResponse() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        BDDMockito.given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+                .willReturn(Mono.just(DataUtils.getJohnDoePersisted()));
+        //when
+        MvcResult asyncResult = mockMvc.perform(post("/api/v2/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", CoreMatchers.notNullValue()))
+                .andExpect(jsonPath("$.email", CoreMatchers.is("john.doe@gmail.com")))
+                .andExpect(jsonPath("$.status", CoreMatchers.is("ACTIVE")));
+    }
+
+    @Test
+    @DisplayName("Test create developer with duplicate email functionality")
+    void givenDeveloperDtoWithDuplicateEmail_whenCreateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        BDDMockito.given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+                .willReturn(Mono.error(new DeveloperWithDuplicateEmailException("Email john.doe@gmail.com already use")));
+        //when
+        MvcResult asyncResult = mockMvc.perform(post("/api/v2/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", CoreMatchers.is(400)))
+                .andExpect(jsonPath("$.message", CoreMatchers.is("Email john.doe@gmail.com already use")));
+    }
+
+    @Test
+    @DisplayName("Test get developer by incorrect id functionality")
+    void givenIncorrectId_whenGetById_thenErrorResponse() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(anyInt()))
+                .willReturn(Mono.error(new DeveloperNotFoundException("Developer with ID: 1 not found")));
+        //when
+        MvcResult asyncResult = mockMvc.perform(get("/api/v2/developers/1")).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", CoreMatchers.is("Developer with ID: 1 not found")));
+    }
+
+    @Test
+    @DisplayName("Test stream all developers functionality")
+    void givenTwoDevelopers_whenGetAllAsNdjson_thenEachIsWrittenOnItsOwnLine() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(null, 20))
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        MvcResult asyncResult = mockMvc.perform(get("/api/v2/developers")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        String body = result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Test get all developers by speciality functionality")
+    void givenTwoDevelopers_whenGetBySpecialityAsJson_thenArrayIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Java"))
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        MvcResult asyncResult = mockMvc.perform(get("/api/v2/developers/speciality/Java")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test hard delete developer functionality")
+    void givenId_whenHardDelete_thenSuccessResponse() throws Exception {
+        //given
+        BDDMockito.given(developerService.hardDeleteById(1))
+                .willReturn(Mono.empty());
+        //when
+        MvcResult asyncResult = mockMvc.perform(delete("/api/v2/developers/1")
+                        .param("isHard", "true"))
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+}
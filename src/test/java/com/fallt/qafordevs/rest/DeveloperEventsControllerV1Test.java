@@ -0,0 +1,65 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.service.DeveloperChangeFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeveloperEventsControllerV1.class)
+class DeveloperEventsControllerV1Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DeveloperChangeFeed developerChangeFeed;
+
+    @Test
+    @DisplayName("Test subscribe to developer changes since a sequence number functionality")
+    void givenSince_whenStreamChanges_thenFeedIsSubscribedFromSince() throws Exception {
+        //given
+        BDDMockito.given(developerChangeFeed.subscribe(any()))
+                .willReturn(new SseEmitter());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/events")
+                .param("since", "42")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+        verify(developerChangeFeed, times(1)).subscribe(42L);
+    }
+
+    @Test
+    @DisplayName("Test reconnect to developer changes with Last-Event-ID functionality")
+    void givenLastEventId_whenStreamChanges_thenFeedIsSubscribedFromLastEventId() throws Exception {
+        //given
+        BDDMockito.given(developerChangeFeed.subscribe(any()))
+                .willReturn(new SseEmitter());
+        //when
+        ResultActions result = mockMvc.perform(get("/api/v1/developers/events")
+                .param("since", "42")
+                .header("Last-Event-ID", "57")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+        //then
+        result
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+        verify(developerChangeFeed, times(1)).subscribe(57L);
+    }
+}
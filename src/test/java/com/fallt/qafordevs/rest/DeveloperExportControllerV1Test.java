@@ -0,0 +1,62 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.service.DeveloperService;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DeveloperExportControllerV1.class)
+class DeveloperExportControllerV1Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DeveloperService developerService;
+
+    @Test
+    @DisplayName("Test export active developers functionality")
+    @SuppressWarnings("unchecked")
+    void givenTwoActiveDevelopers_whenExport_thenNdjsonLinesAreWritten() throws Exception {
+        //given
+        BDDMockito.willAnswer(invocation -> {
+            Consumer<DeveloperEntity> consumer = invocation.getArgument(0);
+            consumer.accept(DataUtils.getJohnDoePersisted());
+            consumer.accept(DataUtils.getMikeSmithPersisted());
+            return null;
+        }).given(developerService).exportActiveDevelopers(any(Consumer.class));
+        //when
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/developers/export")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+        //then
+        String expected = """
+                {"id":1,"firstName":"John","lastName":"Doe","email":"john.doe@gmail.com","speciality":"Java","status":"ACTIVE"}
+                {"id":2,"firstName":"Mike","lastName":"Smith","email":"mike.smith@gmail.com","speciality":"Java","status":"ACTIVE"}
+                """;
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+    }
+}
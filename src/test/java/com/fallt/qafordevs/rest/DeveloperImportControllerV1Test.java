@@ -0,0 +1,76 @@
+package com.fallt.qafordevs.rest;
+
+import com.fallt.qafordevs.dto.ImportMode;
+import com.fallt.qafordevs.dto.ImportReportDto;
+import com.fallt.qafordevs.exeption.InvalidImportFileException;
+import com.fallt.qafordevs.service.DeveloperImportService;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeveloperImportControllerV1.class)
+class DeveloperImportControllerV1Test {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DeveloperImportService developerImportService;
+
+    @Test
+    @DisplayName("Test import developers functionality")
+    void givenCsv_whenImportDevelopers_thenReportIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerImportService.importCsv(any(InputStream.class)))
+                .willReturn(ImportReportDto.builder()
+                        .mode(ImportMode.COPY)
+                        .rowsRead(2)
+                        .rowsImported(1)
+                        .rowsRejected(1)
+                        .build());
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType("text/csv")
+                .content("email\njohn.doe@gmail.com\njohn.doe@gmail.com\n"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mode", CoreMatchers.is("COPY")))
+                .andExpect(jsonPath("$.rowsImported", CoreMatchers.is(1)))
+                .andExpect(jsonPath("$.rowsRejected", CoreMatchers.is(1)));
+    }
+
+    @Test
+    @DisplayName("Test import invalid csv functionality")
+    void givenInvalidCsv_whenImportDevelopers_thenErrorResponse() throws Exception {
+        //given
+        String message = "Unknown CSV column: nickname";
+        BDDMockito.given(developerImportService.importCsv(any(InputStream.class)))
+                .willThrow(new InvalidImportFileException(message));
+        //when
+        ResultActions result = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType("text/csv")
+                .content("nickname\njd\n"));
+        //then
+        result
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", CoreMatchers.is(400)))
+                .andExpect(jsonPath("$.message", CoreMatchers.is(message)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.exeption.InvalidImportFileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Test read plain records functionality")
+    void givenPlainCsv_whenReadRecord_thenFieldsAreSplit() throws IOException {
+        //given
+        CsvRecordReader reader = reader("email,firstName\r\njohn.doe@gmail.com,John\n");
+        //when
+        List<String> header = reader.readRecord();
+        List<String> record = reader.readRecord();
+        List<String> end = reader.readRecord();
+        //then
+        assertThat(header).containsExactly("email", "firstName");
+        assertThat(record).containsExactly("john.doe@gmail.com", "John");
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("Test read quoted records functionality")
+    void givenQuotedFields_whenReadRecord_thenQuotesAreUnescaped() throws IOException {
+        //given
+        CsvRecordReader reader = reader("\"Doe, \"\"JD\"\" John\",\"multi\nline\",\"\",");
+        //when
+        List<String> record = reader.readRecord();
+        //then
+        assertThat(record).isEqualTo(Arrays.asList("Doe, \"JD\" John", "multi\nline", "", null));
+    }
+
+    @Test
+    @DisplayName("Test read unterminated quoted field functionality")
+    void givenUnterminatedQuote_whenReadRecord_thenExceptionIsThrown() {
+        //given
+        CsvRecordReader reader = reader("\"john.doe@gmail.com,John");
+        //when
+        assertThrows(InvalidImportFileException.class, reader::readRecord);
+    }
+
+    private CsvRecordReader reader(String csv) {
+        return new CsvRecordReader(new BufferedReader(new StringReader(csv)));
+    }
+}
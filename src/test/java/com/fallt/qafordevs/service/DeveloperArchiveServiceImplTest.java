@@ -0,0 +1,105 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperArchiveProperties;
+import com.fallt.qafordevs.config.DeveloperChangeFeedProperties;
+import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.repository.DeveloperArchiveRepository;
+import com.fallt.qafordevs.repository.DeveloperRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperArchiveServiceImplTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private DeveloperArchiveRepository developerArchiveRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Spy
+    private DeveloperArchiveProperties properties = new DeveloperArchiveProperties();
+    @Spy
+    private DeveloperChangeFeedProperties changeFeedProperties = new DeveloperChangeFeedProperties();
+    @InjectMocks
+    private DeveloperArchiveServiceImpl serviceUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        BDDMockito.lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Test archival moves deleted developers chunk by chunk")
+    void givenMoreDeletedDevelopersThanChunkSize_whenArchiveDeleted_thenChunksRunUntilOneIsShort() {
+        //given
+        properties.setChunkSize(2);
+        BDDMockito.given(developerRepository.lockArchivable(any(Instant.class), eq(Limit.of(2))))
+                .willReturn(List.of(1, 2))
+                .willReturn(List.of(3));
+        BDDMockito.given(developerRepository.deleteArchived(List.of(1, 2))).willReturn(2);
+        BDDMockito.given(developerRepository.deleteArchived(List.of(3))).willReturn(1);
+        //when
+        int archived = serviceUnderTest.archiveDeleted();
+        //then
+        assertThat(archived).isEqualTo(3);
+        verify(developerArchiveRepository).copyFromDevelopers(eq(List.of(1, 2)), any(Instant.class));
+        verify(developerArchiveRepository).copyFromDevelopers(eq(List.of(3)), any(Instant.class));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Test archival keeps developers deleted within the change feed retention")
+    void givenRetentionShorterThanChangeFeedRetention_whenArchiveDeleted_thenChangeFeedRetentionApplies() {
+        //given
+        properties.setRetention(Duration.ofDays(1));
+        changeFeedProperties.setRetention(Duration.ofDays(7));
+        BDDMockito.given(developerRepository.lockArchivable(any(Instant.class), any(Limit.class)))
+                .willReturn(List.of());
+        ArgumentCaptor<Instant> deletedBefore = ArgumentCaptor.forClass(Instant.class);
+        //when
+        int archived = serviceUnderTest.archiveDeleted();
+        //then
+        assertThat(archived).isZero();
+        verify(developerRepository).lockArchivable(deletedBefore.capture(), any(Limit.class));
+        assertThat(deletedBefore.getValue()).isBefore(Instant.now().minus(Duration.ofDays(7)).plusSeconds(1));
+        verify(developerArchiveRepository, never()).copyFromDevelopers(anyList(), any(Instant.class));
+        verify(developerRepository, never()).deleteArchived(anyList());
+    }
+
+    @Test
+    @DisplayName("Test get archived developer by incorrect id functionality")
+    void givenIncorrectId_whenGetArchivedById_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerArchiveRepository.findById(1)).willReturn(Optional.empty());
+        //when
+        //then
+        assertThrows(DeveloperNotFoundException.class, () -> serviceUnderTest.getArchivedById(1));
+    }
+}
@@ -0,0 +1,183 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperChangeFeedProperties;
+import com.fallt.qafordevs.entity.DeveloperChangeEntity;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DeveloperChangeFeedTest {
+
+    private final DeveloperChangeRepository developerChangeRepository = Mockito.mock(DeveloperChangeRepository.class);
+
+    private final JpaTransactionManager transactionManager = new JpaTransactionManager();
+
+    @Test
+    @DisplayName("Test changes are streamed to every subscriber")
+    void givenSubscribers_whenPoll_thenEverySubscriberReceivesChanges() throws Exception {
+        //given
+        DeveloperChangeFeed feedUnderTest = new DeveloperChangeFeed(developerChangeRepository, properties(Duration.ofHours(1)), transactionManager);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        feedUnderTest.subscribe(null, first);
+        feedUnderTest.subscribe(null, second);
+        BDDMockito.given(developerChangeRepository.findAfter(eq(0L), any(Limit.class)))
+                .willReturn(changes(1, 2));
+        //when
+        feedUnderTest.poll();
+        //then
+        assertThat(first.awaitIds(2)).containsExactly("1", "2");
+        assertThat(second.awaitIds(2)).containsExactly("1", "2");
+        assertThat(feedUnderTest.lastSequence()).isEqualTo(2);
+        verify(developerChangeRepository, never()).findBetween(Mockito.anyLong(), Mockito.anyLong(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Test change behind a sequence gap is held until the gap times out")
+    void givenSequenceGap_whenPoll_thenChangesAfterGapAreHeld() {
+        //given
+        DeveloperChangeFeed feedUnderTest = new DeveloperChangeFeed(developerChangeRepository, properties(Duration.ofHours(1)), transactionManager);
+        BDDMockito.given(developerChangeRepository.findAfter(eq(0L), any(Limit.class)))
+                .willReturn(changes(1, 3));
+        //when
+        feedUnderTest.poll();
+        //then
+        assertThat(feedUnderTest.lastSequence()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test sequence gap is skipped once the gap timed out")
+    void givenExpiredSequenceGap_whenPoll_thenChangesAfterGapAreStreamed() {
+        //given
+        DeveloperChangeFeed feedUnderTest = new DeveloperChangeFeed(developerChangeRepository, properties(Duration.ZERO), transactionManager);
+        BDDMockito.given(developerChangeRepository.findAfter(eq(0L), any(Limit.class)))
+                .willReturn(changes(1, 3));
+        //when
+        feedUnderTest.poll();
+        //then
+        assertThat(feedUnderTest.lastSequence()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test feed refuses to start when a transaction can outlive the gap timeout")
+    void givenGapTimeoutNotLongerThanTransactionTimeout_whenStart_thenExceptionIsThrown() {
+        //given
+        transactionManager.setDefaultTimeout(30);
+        DeveloperChangeFeed feedUnderTest = new DeveloperChangeFeed(developerChangeRepository, properties(Duration.ofSeconds(30)), transactionManager);
+        //when
+        assertThrows(IllegalStateException.class, feedUnderTest::start);
+        //then
+        assertThat(feedUnderTest.isRunning()).isFalse();
+        verify(developerChangeRepository, never()).findLastId();
+    }
+
+    @Test
+    @DisplayName("Test subscriber resuming before the buffered changes catches up from the outbox")
+    void givenSinceOlderThanBuffer_whenSubscribe_thenMissedChangesAreReadFromOutbox() throws Exception {
+        //given
+        DeveloperChangeFeedProperties properties = properties(Duration.ofHours(1));
+        properties.setBufferSize(2);
+        DeveloperChangeFeed feedUnderTest = new DeveloperChangeFeed(developerChangeRepository, properties, transactionManager);
+        BDDMockito.given(developerChangeRepository.findAfter(eq(0L), any(Limit.class)))
+                .willReturn(changes(1, 2, 3, 4, 5));
+        BDDMockito.given(developerChangeRepository.findBetween(eq(1L), eq(5L), any(Limit.class)))
+                .willReturn(changes(2, 3, 4, 5));
+        feedUnderTest.poll();
+        RecordingEmitter emitter = new RecordingEmitter();
+        //when
+        feedUnderTest.subscribe(1L, emitter);
+        //then
+        assertThat(emitter.awaitIds(4)).containsExactly("2", "3", "4", "5");
+    }
+
+    @Test
+    @DisplayName("Test subscriber resuming within the buffered changes is served from memory")
+    void givenRecentSince_whenSubscribe_thenMissedChangesComeFromBuffer() throws Exception {
+        //given
+        DeveloperChangeFeed feedUnderTest = new DeveloperChangeFeed(developerChangeRepository, properties(Duration.ofHours(1)), transactionManager);
+        BDDMockito.given(developerChangeRepository.findAfter(eq(0L), any(Limit.class)))
+                .willReturn(changes(1, 2, 3));
+        feedUnderTest.poll();
+        RecordingEmitter emitter = new RecordingEmitter();
+        //when
+        feedUnderTest.subscribe(1L, emitter);
+        //then
+        assertThat(emitter.awaitIds(2)).containsExactly("2", "3");
+        verify(developerChangeRepository, never()).findBetween(Mockito.anyLong(), Mockito.anyLong(), any(Limit.class));
+    }
+
+    private static DeveloperChangeFeedProperties properties(Duration gapTimeout) {
+        DeveloperChangeFeedProperties properties = new DeveloperChangeFeedProperties();
+        properties.setGapTimeout(gapTimeout);
+        return properties;
+    }
+
+    private static List<DeveloperChangeEntity> changes(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> DeveloperChangeEntity.builder()
+                        .id(id)
+                        .type(DeveloperChangeType.CREATED)
+                        .developerId((int) id)
+                        .email("developer" + id + "@mail.com")
+                        .status(Status.ACTIVE)
+                        .occurredAt(Instant.now())
+                        .build())
+                .toList();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+        private final BlockingQueue<String> ids = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    Matcher matcher = ID.matcher(text);
+                    if (matcher.find()) {
+                        ids.add(matcher.group(1));
+                    }
+                }
+            }
+        }
+
+        private List<String> awaitIds(int count) throws InterruptedException {
+            List<String> received = new ArrayList<>();
+            while (received.size() < count) {
+                String id = ids.poll(5, TimeUnit.SECONDS);
+                if (id == null) {
+                    break;
+                }
+                received.add(id);
+            }
+            return received;
+        }
+    }
+}
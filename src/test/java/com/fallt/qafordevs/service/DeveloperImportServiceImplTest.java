@@ -0,0 +1,110 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.ImportMode;
+import com.fallt.qafordevs.dto.ImportRejectReason;
+import com.fallt.qafordevs.dto.ImportRejectionDto;
+import com.fallt.qafordevs.dto.ImportReportDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.InvalidImportFileException;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperImportServiceImplTest {
+
+    @Mock
+    private DeveloperService developerService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private DeveloperChangeRepository developerChangeRepository;
+    @InjectMocks
+    private DeveloperImportServiceImpl serviceUnderTest;
+
+    @Test
+    @DisplayName("Test import csv without postgres functionality")
+    @SuppressWarnings("unchecked")
+    void givenCsvWithInvalidRows_whenImportOnH2_thenValidRowsAreSavedInBatches() throws IOException {
+        //given
+        BDDMockito.given(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willReturn(false);
+        BDDMockito.given(developerService.saveDevelopers(anyList()))
+                .willReturn(List.of(
+                        DeveloperBatchResultDto.builder().index(0).id(1).email("john.doe@gmail.com")
+                                .status(BatchItemStatus.CREATED).build(),
+                        DeveloperBatchResultDto.builder().index(1).email("mike.smith@gmail.com")
+                                .status(BatchItemStatus.DUPLICATE_EMAIL).build()));
+        InputStream csv = csv("""
+                first_name,last_name,email,speciality
+                John,Doe,john.doe@gmail.com,Java
+                Frank,Jones,,Java
+                John,Doe,john.doe@gmail.com,Java
+                Mike,Smith,mike.smith@gmail.com,Java
+                """);
+        //when
+        ImportReportDto report = serviceUnderTest.importCsv(csv);
+        //then
+        ArgumentCaptor<List<DeveloperEntity>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(developerService).saveDevelopers(chunk.capture());
+        assertThat(chunk.getValue()).extracting(DeveloperEntity::getEmail)
+                .containsExactly("john.doe@gmail.com", "mike.smith@gmail.com");
+        assertThat(report.getMode()).isEqualTo(ImportMode.BATCH);
+        assertThat(report.getRowsRead()).isEqualTo(4);
+        assertThat(report.getRowsImported()).isEqualTo(1);
+        assertThat(report.getRowsRejected()).isEqualTo(3);
+        assertThat(report.getRejections()).extracting(ImportRejectionDto::getRow, ImportRejectionDto::getReason)
+                .containsExactly(
+                        tuple(2L, ImportRejectReason.MISSING_EMAIL),
+                        tuple(3L, ImportRejectReason.DUPLICATE_IN_FILE),
+                        tuple(4L, ImportRejectReason.DUPLICATE_EMAIL));
+    }
+
+    @Test
+    @DisplayName("Test import csv with unknown column functionality")
+    void givenCsvWithUnknownColumn_whenImport_thenExceptionIsThrown() {
+        //given
+        InputStream csv = csv("""
+                email,nickname
+                john.doe@gmail.com,jd
+                """);
+        //when
+        assertThrows(InvalidImportFileException.class, () -> serviceUnderTest.importCsv(csv));
+        //then
+        verify(developerService, never()).saveDevelopers(anyList());
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
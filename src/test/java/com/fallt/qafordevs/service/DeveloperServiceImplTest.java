@@ -1,20 +1,49 @@
 package com.fallt.qafordevs.service;
 
+import com.fallt.qafordevs.cache.DeveloperCache;
+import com.fallt.qafordevs.config.DeveloperCacheProperties;
+import com.fallt.qafordevs.config.DeveloperChangeFeedProperties;
+import com.fallt.qafordevs.config.DeveloperSyncProperties;
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.dto.DeveloperChangesDto;
+import com.fallt.qafordevs.dto.DeveloperSyncWatermark;
 import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
 import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.exeption.DeveloperVersionConflictException;
 import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.exeption.SyncWatermarkExpiredException;
+import com.fallt.qafordevs.index.CompletionTrie.Completion;
+import com.fallt.qafordevs.index.DeveloperAutocompleteIndex;
+import com.fallt.qafordevs.index.DeveloperSearchIndex;
+import com.fallt.qafordevs.index.SpecialityIndex;
+import com.fallt.qafordevs.repository.DeveloperChangeRepository;
 import com.fallt.qafordevs.repository.DeveloperRepository;
 import com.fallt.qafordevs.util.DataUtils;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
@@ -26,6 +55,24 @@ class DeveloperServiceImplTest {
 
     @Mock
     private DeveloperRepository developerRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private DeveloperCache developerCache = new DeveloperCache(new DeveloperCacheProperties());
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private SpecialityIndex specialityIndex = new SpecialityIndex();
+    @Spy
+    private DeveloperSearchIndex developerSearchIndex = new DeveloperSearchIndex();
+    @Spy
+    private DeveloperAutocompleteIndex developerAutocompleteIndex = new DeveloperAutocompleteIndex();
+    @Mock
+    private DeveloperChangeRepository developerChangeRepository;
+    @Spy
+    private DeveloperSyncProperties syncProperties = new DeveloperSyncProperties();
+    @Spy
+    private DeveloperChangeFeedProperties changeFeedProperties = new DeveloperChangeFeedProperties();
     @InjectMocks
     private DeveloperServiceImpl serviceUnderTest;
 
@@ -34,14 +81,17 @@ class DeveloperServiceImplTest {
     void givenDeveloperToSave_whenSaveDeveloper_thenRepositoryIsCalled() {
         //given
         DeveloperEntity developerToSave = DataUtils.getJohnDoeTransient();
-        BDDMockito.given(developerRepository.findByEmail(anyString()))
-                .willReturn(Optional.empty());
-        BDDMockito.given(developerRepository.save(any(DeveloperEntity.class)))
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
                 .willReturn(DataUtils.getJohnDoePersisted());
         //when
         DeveloperEntity savedDeveloper = serviceUnderTest.saveDeveloper(developerToSave);
         //then
         assertThat(savedDeveloper).isNotNull();
+        verify(developerRepository, never()).findByEmail(anyString());
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((DeveloperChangedEvent event) -> event.type() == DeveloperChangeType.CREATED));
+        verify(developerChangeRepository, times(1)).save(
+                argThat(change -> change.getType() == DeveloperChangeType.CREATED && change.getDeveloperId() != null));
     }
 
     @Test
@@ -49,12 +99,51 @@ class DeveloperServiceImplTest {
     void givenDeveloperToSaveWithDuplicateEmail_whenSaveDeveloper_thenExceptionIsThrow() {
         //given
         DeveloperEntity developerToSave = DataUtils.getJohnDoeTransient();
-        BDDMockito.given(developerRepository.findByEmail(anyString()))
-                .willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key", new ConstraintViolationException(
+                        "duplicate key", new SQLException(), DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT)));
         //when
-        assertThrows(DeveloperWithDuplicateEmailException.class, () -> serviceUnderTest.saveDeveloper(developerToSave));
+        DeveloperWithDuplicateEmailException exception = assertThrows(DeveloperWithDuplicateEmailException.class,
+                () -> serviceUnderTest.saveDeveloper(developerToSave));
         //then
-        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+        assertThat(exception.getMessage()).isEqualTo("Email john.doe@gmail.com already use");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test save developer with other integrity violation functionality")
+    void givenOtherConstraintViolated_whenSaveDeveloper_thenOriginalExceptionIsThrown() {
+        //given
+        DeveloperEntity developerToSave = DataUtils.getJohnDoeTransient();
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
+                .willThrow(new DataIntegrityViolationException("value too long"));
+        //when
+        assertThrows(DataIntegrityViolationException.class, () -> serviceUnderTest.saveDeveloper(developerToSave));
+    }
+
+    @Test
+    @DisplayName("Test save developers batch functionality")
+    void givenBatchWithExistingAndRepeatedEmails_whenSaveDevelopers_thenOnlyUniqueAreSaved() {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developer2 = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developer3 = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developer4 = DataUtils.getFrankJonesTransient();
+        BDDMockito.given(developerRepository.findExistingEmails(anyCollection()))
+                .willReturn(Set.of(developer4.getEmail()));
+        BDDMockito.given(developerRepository.save(any(DeveloperEntity.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        //when
+        List<DeveloperBatchResultDto> results = serviceUnderTest.saveDevelopers(
+                List.of(developer1, developer2, developer3, developer4));
+        //then
+        assertThat(results).extracting(DeveloperBatchResultDto::getStatus).containsExactly(
+                BatchItemStatus.CREATED, BatchItemStatus.CREATED,
+                BatchItemStatus.DUPLICATE_EMAIL, BatchItemStatus.DUPLICATE_EMAIL);
+        assertThat(results).extracting(DeveloperBatchResultDto::getIndex).containsExactly(0, 1, 2, 3);
+        verify(developerRepository, times(1)).findExistingEmails(anyCollection());
+        verify(developerRepository, times(2)).save(any(DeveloperEntity.class));
+        verify(developerRepository, never()).findByEmail(anyString());
     }
 
     @Test
@@ -62,15 +151,122 @@ class DeveloperServiceImplTest {
     void givenDeveloperToUpdate_whenUpdateDeveloper_thenRepositoryIsCalled() {
         //given
         DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.existsById(anyInt()))
-                .willReturn(true);
-        BDDMockito.given(developerRepository.save(any(DeveloperEntity.class)))
-                .willReturn(developerToUpdate);
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+                .willReturn(1);
+        BDDMockito.given(developerRepository.findById(developerToUpdate.getId()))
+                .willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
         //when
         DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
         //then
         assertThat(updatedDeveloper).isNotNull();
-        verify(developerRepository, times(1)).save(any(DeveloperEntity.class));
+        verify(developerRepository, times(1)).updateDeveloper(any(DeveloperEntity.class));
+        verify(developerRepository, never()).existsById(anyInt());
+        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with current version functionality")
+    void givenDeveloperWithCurrentVersion_whenUpdateDeveloper_thenStoredVersionIsReturned() {
+        //given
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setVersion(3L);
+        DeveloperEntity storedDeveloper = DataUtils.getJohnDoePersisted();
+        storedDeveloper.setVersion(4L);
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+                .willReturn(1);
+        BDDMockito.given(developerRepository.findById(developerToUpdate.getId()))
+                .willReturn(Optional.of(storedDeveloper));
+        //when
+        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Test update developer without version functionality")
+    void givenDeveloperWithoutVersion_whenUpdateDeveloper_thenStoredVersionIsReturnedAndPublished() {
+        //given
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setVersion(null);
+        DeveloperEntity storedDeveloper = DataUtils.getJohnDoePersisted();
+        storedDeveloper.setVersion(7L);
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+                .willReturn(1);
+        BDDMockito.given(developerRepository.findById(developerToUpdate.getId()))
+                .willReturn(Optional.of(storedDeveloper));
+        //when
+        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(7L);
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((DeveloperChangedEvent event) -> event.developer().getVersion() == 7L));
+    }
+
+    @Test
+    @DisplayName("Test update developer with outdated version functionality")
+    void givenDeveloperWithOutdatedVersion_whenUpdateDeveloper_thenExceptionIsThrown() {
+        //given
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setVersion(3L);
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+                .willReturn(0);
+        BDDMockito.given(developerRepository.existsById(anyInt()))
+                .willReturn(true);
+        //when
+        assertThrows(DeveloperVersionConflictException.class, () -> serviceUnderTest.updateDeveloper(developerToUpdate));
+        //then
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test patch developer functionality")
+    void givenChangedFields_whenPatchDeveloper_thenOnlyPatchIsExecutedAndEventIsPublished() {
+        //given
+        DeveloperEntity changes = DeveloperEntity.builder()
+                .lastName("Updated")
+                .build();
+        DeveloperEntity patchedDeveloper = DataUtils.getJohnDoePersisted();
+        patchedDeveloper.setLastName("Updated");
+        BDDMockito.given(developerRepository.patchDeveloper(anyInt(), any(DeveloperEntity.class)))
+                .willReturn(1);
+        BDDMockito.given(developerRepository.findById(anyInt()))
+                .willReturn(Optional.of(patchedDeveloper));
+        //when
+        DeveloperEntity result = serviceUnderTest.patchDeveloper(1, changes);
+        //then
+        assertThat(result.getLastName()).isEqualTo("Updated");
+        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((DeveloperChangedEvent event) -> event.type() == DeveloperChangeType.UPDATED));
+    }
+
+    @Test
+    @DisplayName("Test patch developer without changes functionality")
+    void givenNoChangedFields_whenPatchDeveloper_thenNothingIsWritten() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt()))
+                .willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        //when
+        DeveloperEntity result = serviceUnderTest.patchDeveloper(1, new DeveloperEntity());
+        //then
+        assertThat(result).isNotNull();
+        verify(developerRepository, never()).patchDeveloper(anyInt(), any(DeveloperEntity.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test patch developer with incorrect id functionality")
+    void givenIncorrectId_whenPatchDeveloper_thenExceptionIsThrown() {
+        //given
+        DeveloperEntity changes = DeveloperEntity.builder()
+                .lastName("Updated")
+                .build();
+        BDDMockito.given(developerRepository.patchDeveloper(anyInt(), any(DeveloperEntity.class)))
+                .willReturn(0);
+        //when
+        assertThrows(DeveloperNotFoundException.class, () -> serviceUnderTest.patchDeveloper(1, changes));
+        //then
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -78,8 +274,8 @@ class DeveloperServiceImplTest {
     void givenDeveloperToUpdateWithIncorrectId_whenUpdateDeveloper_thenExceptionIsThrown() {
         //given
         DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.existsById(anyInt()))
-                .willReturn(false);
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+                .willReturn(0);
         //when
         assertThrows(DeveloperNotFoundException.class, () -> serviceUnderTest.updateDeveloper(developerToUpdate));
         //then
@@ -98,6 +294,20 @@ class DeveloperServiceImplTest {
         assertThat(obtainedDeveloper).isNotNull();
     }
 
+    @Test
+    @DisplayName("Test get cached developer by id functionality")
+    void givenDeveloperWasRead_whenGetByIdAgain_thenRepositoryIsNotCalled() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt()))
+                .willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        serviceUnderTest.getDeveloperById(1);
+        //when
+        DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperById(1);
+        //then
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo("john.doe@gmail.com");
+        verify(developerRepository, times(1)).findById(1);
+    }
+
     @Test
     @DisplayName("Test get developer by incorrect id functionality")
     void givenIncorrectId_whenGetById_thenExceptionIsThrown() {
@@ -134,18 +344,31 @@ class DeveloperServiceImplTest {
 
     @Test
     @DisplayName("Test get all developers functionality")
-    void givenThreeDevelopers_whenGetAll_thenOnlyActiveAreReturned() {
+    void givenTwoActiveDevelopers_whenGetAll_thenPageIsReturned() {
         //given
         DeveloperEntity developer1 = DataUtils.getJohnDoePersisted();
         DeveloperEntity developer2 = DataUtils.getMikeSmithPersisted();
-        DeveloperEntity developer3 = DataUtils.getFrankJonesPersisted();
-        List<DeveloperEntity> developers = List.of(developer1, developer2, developer3);
-        BDDMockito.given(developerRepository.findAll())
+        List<DeveloperEntity> developers = List.of(developer1, developer2);
+        BDDMockito.given(developerRepository.findActivePage(anyInt(), any(Limit.class)))
                 .willReturn(developers);
         //when
-        List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.getAllDevelopers();
+        List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.getAllDevelopers(null, 20);
         //then
         assertThat(obtainedDevelopers).hasSize(2);
+        verify(developerRepository, times(1)).findActivePage(0, Limit.of(20));
+    }
+
+    @Test
+    @DisplayName("Test get all developers with too large page size functionality")
+    void givenTooLargePageSize_whenGetAll_thenPageSizeIsLimited() {
+        //given
+        BDDMockito.given(developerRepository.findActivePage(anyInt(), any(Limit.class)))
+                .willReturn(List.of());
+        //when
+        serviceUnderTest.getAllDevelopers(5, 10_000);
+        //then
+        verify(developerRepository, times(1)).findActivePage(5, Limit.of(DeveloperService.MAX_PAGE_SIZE));
+        verify(developerRepository, never()).findAll();
     }
 
     @Test
@@ -163,52 +386,178 @@ class DeveloperServiceImplTest {
         assertThat(obtainedDevelopers).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Test get all active by speciality from built index functionality")
+    void givenBuiltSpecialityIndex_whenGetAllActiveBySpeciality_thenRepositoryIsNotCalled() {
+        //given
+        specialityIndex.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.getAllActiveBySpeciality("Java");
+        //then
+        assertThat(obtainedDevelopers).hasSize(2);
+        verify(developerRepository, never()).findAllActiveBySpeciality(anyString());
+    }
+
+    @Test
+    @DisplayName("Test search developers from built index functionality")
+    void givenBuiltSearchIndex_whenSearchDevelopers_thenRepositoryIsNotCalled() {
+        //given
+        developerSearchIndex.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.searchDevelopers("smi", 10);
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperEntity::getId).containsExactly(2);
+        verify(developerRepository, never()).searchActive(anyString(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Test search developers before index is built functionality")
+    void givenSearchIndexIsNotBuilt_whenSearchDevelopers_thenEscapedPatternIsQueried() {
+        //given
+        BDDMockito.given(developerRepository.searchActive(anyString(), any(Limit.class)))
+                .willReturn(List.of(DataUtils.getJohnDoePersisted()));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.searchDevelopers(" John_D%", 500);
+        //then
+        assertThat(obtainedDevelopers).hasSize(1);
+        verify(developerRepository, times(1))
+                .searchActive("%john\\_d\\%%", Limit.of(DeveloperService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("Test autocomplete names functionality")
+    void givenBuiltAutocompleteIndex_whenCompleteNames_thenLimitIsCapped() {
+        //given
+        developerAutocompleteIndex.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        List<Completion> obtainedCompletions = serviceUnderTest.completeNames("", 500);
+        //then
+        assertThat(obtainedCompletions).hasSize(6);
+        verify(developerAutocompleteIndex, times(1)).completeNames("", DeveloperService.MAX_PAGE_SIZE);
+        verifyNoInteractions(developerRepository);
+    }
+
+    @Test
+    @DisplayName("Test get changes since a watermark functionality")
+    void givenChangedAndDeletedDevelopers_whenGetChangesSince_thenChangesAndTombstonesAreReturned() {
+        //given
+        Instant since = Instant.now().minus(Duration.ofHours(1));
+        DeveloperEntity john = DataUtils.getJohnDoePersisted().toBuilder().updatedAt(since.plusSeconds(1)).build();
+        DeveloperEntity frank = DataUtils.getFrankJonesPersisted().toBuilder().updatedAt(since.plusSeconds(2)).build();
+        BDDMockito.given(developerRepository.findChangedPage(eq(since), eq(0), any(Instant.class), any(Limit.class)))
+                .willReturn(List.of(john, frank));
+        BDDMockito.given(developerChangeRepository.findHardDeletedBetween(eq(since), any(Instant.class)))
+                .willReturn(List.of(7));
+        //when
+        DeveloperChangesDto changes = serviceUnderTest.getChangesSince(new DeveloperSyncWatermark(since, 0, false), 10);
+        //then
+        assertThat(changes.getChanged()).extracting("id").containsExactly(1);
+        assertThat(changes.getDeleted()).containsExactly(3, 7);
+        assertThat(changes.isHasMore()).isFalse();
+        DeveloperSyncWatermark next = DeveloperSyncWatermark.parse(changes.getWatermark());
+        assertThat(next.updatedAt()).isAfter(frank.getUpdatedAt());
+        assertThat(next.initialSync()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test get changes with a full page functionality")
+    void givenFullPage_whenGetChangesSince_thenWatermarkPointsAtLastRow() {
+        //given
+        Instant updatedAt = Instant.parse("2024-01-01T10:00:00Z");
+        DeveloperEntity john = DataUtils.getJohnDoePersisted().toBuilder().updatedAt(updatedAt).build();
+        DeveloperEntity mike = DataUtils.getMikeSmithPersisted().toBuilder().updatedAt(updatedAt).build();
+        BDDMockito.given(developerRepository.findChangedPage(eq(Instant.EPOCH), eq(0), any(Instant.class), eq(Limit.of(2))))
+                .willReturn(List.of(john, mike));
+        //when
+        DeveloperChangesDto changes = serviceUnderTest.getChangesSince(null, 2);
+        //then
+        assertThat(changes.getChanged()).hasSize(2);
+        assertThat(changes.isHasMore()).isTrue();
+        assertThat(DeveloperSyncWatermark.parse(changes.getWatermark()))
+                .isEqualTo(new DeveloperSyncWatermark(updatedAt, 2, true));
+        verify(developerChangeRepository, times(1)).findHardDeletedBetween(Instant.EPOCH, updatedAt);
+    }
+
+    @Test
+    @DisplayName("Test get changes since a watermark older than the retention functionality")
+    void givenWatermarkOlderThanRetention_whenGetChangesSince_thenExceptionIsThrown() {
+        //given
+        DeveloperSyncWatermark since = new DeveloperSyncWatermark(Instant.now().minus(Duration.ofDays(30)), 0, false);
+        //when
+        assertThrows(SyncWatermarkExpiredException.class, () -> serviceUnderTest.getChangesSince(since, 10));
+        //then
+        verifyNoInteractions(developerRepository);
+    }
+
+    @Test
+    @DisplayName("Test export active developers functionality")
+    void givenTwoActiveDevelopers_whenExport_thenEachIsConsumedAndDetached() {
+        //given
+        DeveloperEntity developer1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity developer2 = DataUtils.getMikeSmithPersisted();
+        BDDMockito.given(developerRepository.streamAllActive())
+                .willReturn(Stream.of(developer1, developer2));
+        List<DeveloperEntity> exported = new ArrayList<>();
+        //when
+        serviceUnderTest.exportActiveDevelopers(exported::add);
+        //then
+        assertThat(exported).containsExactly(developer1, developer2);
+        verify(entityManager, times(1)).detach(developer1);
+        verify(entityManager, times(1)).detach(developer2);
+    }
+
     @Test
     @DisplayName("Test soft delete by id functionality")
-    void givenId_whenSoftDeleteById_thenRepositorySaveMethodIsCalled() {
+    void givenId_whenSoftDeleteById_thenRepositorySoftDeleteMethodIsCalled() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt()))
-                .willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any(Instant.class)))
+                .willReturn(1);
         //when
         serviceUnderTest.softDeleteById(1);
         //then
-        verify(developerRepository, times(1)).save(any(DeveloperEntity.class));
-        verify(developerRepository, never()).deleteById(anyInt());
+        verify(developerRepository, times(1)).softDeleteById(anyInt(), any(Instant.class));
+        verify(developerRepository, never()).findById(anyInt());
+        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+        verify(developerRepository, never()).hardDeleteById(anyInt());
+        verify(developerChangeRepository, times(1)).save(argThat(change ->
+                change.getType() == DeveloperChangeType.SOFT_DELETED && change.getDeveloperId() == 1));
     }
 
     @Test
     @DisplayName("Test soft delete by incorrect id functionality")
     void givenIncorrectId_whenSoftDeleteById_thenExceptionIsThrown() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt()))
-                .willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any(Instant.class)))
+                .willReturn(0);
         //when
         assertThrows(DeveloperNotFoundException.class, () -> serviceUnderTest.softDeleteById(1));
         //then
-        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(developerChangeRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Test hard delete by id functionality")
     void givenId_whenHardDeleteById_thenDeleteRepoMethodIsCalled() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt()))
-                .willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt()))
+                .willReturn(1);
         //when
         serviceUnderTest.hardDeleteById(1);
         //then
-        verify(developerRepository, times(1)).deleteById(anyInt());
+        verify(developerRepository, times(1)).hardDeleteById(anyInt());
+        verify(developerRepository, never()).findById(anyInt());
     }
 
     @Test
     @DisplayName("Test hard delete by incorrect id functionality")
     void givenIncorrectId_whenHardDeleteById_thenExceptionIsThrown() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt()))
-                .willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt()))
+                .willReturn(0);
         //when
         assertThrows(DeveloperNotFoundException.class, () -> serviceUnderTest.hardDeleteById(1));
         //then
-        verify(developerRepository, never()).deleteById(anyInt());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
@@ -0,0 +1,147 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.config.DeveloperWriteBehindProperties;
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.dto.DeveloperBatchResultDto;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.exeption.DeveloperWithDuplicateEmailException;
+import com.fallt.qafordevs.exeption.DeveloperWriteQueueFullException;
+import com.fallt.qafordevs.util.DataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DeveloperWriteBehindQueueTest {
+
+    private final DeveloperService developerService = Mockito.mock(DeveloperService.class);
+
+    private DeveloperWriteBehindQueue queueUnderTest;
+
+    @AfterEach
+    void tearDown() {
+        queueUnderTest.stop();
+    }
+
+    @Test
+    @DisplayName("Test developers submitted together are saved in one batch")
+    void givenConcurrentSubmissions_whenWritten_thenOneBatchCompletesEveryFuture() throws Exception {
+        //given
+        queueUnderTest = start(properties(10, 3, Duration.ofSeconds(5)));
+        BDDMockito.given(developerService.saveDevelopers(anyList()))
+                .willAnswer(invocation -> {
+                    List<DeveloperEntity> developers = invocation.getArgument(0);
+                    developers.get(0).setId(1);
+                    developers.get(1).setId(2);
+                    return List.of(created(0, 1), created(1, 2), DeveloperBatchResultDto.builder()
+                            .index(2)
+                            .status(BatchItemStatus.DUPLICATE_EMAIL)
+                            .message("Email john.doe@mail.com already use")
+                            .build());
+                });
+        //when
+        CompletableFuture<DeveloperEntity> john = queueUnderTest.submit(DataUtils.getJohnDoeTransient());
+        CompletableFuture<DeveloperEntity> mike = queueUnderTest.submit(DataUtils.getMikeSmithTransient());
+        CompletableFuture<DeveloperEntity> duplicate = queueUnderTest.submit(DataUtils.getJohnDoeTransient());
+        //then
+        assertThat(john.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1);
+        assertThat(mike.get(5, TimeUnit.SECONDS).getId()).isEqualTo(2);
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+        assertThat(failure.getCause()).isInstanceOf(DeveloperWithDuplicateEmailException.class);
+        verify(developerService, times(1)).saveDevelopers(anyList());
+    }
+
+    @Test
+    @DisplayName("Test submit to a full queue functionality")
+    void givenFullQueue_whenSubmit_thenExceptionIsThrown() throws Exception {
+        //given
+        queueUnderTest = start(properties(1, 1, Duration.ZERO));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BDDMockito.given(developerService.saveDevelopers(anyList()))
+                .willAnswer(invocation -> {
+                    writing.countDown();
+                    release.await();
+                    return List.of(created(0, 1));
+                });
+        CompletableFuture<DeveloperEntity> written = queueUnderTest.submit(DataUtils.getJohnDoeTransient());
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<DeveloperEntity> queued = queueUnderTest.submit(DataUtils.getMikeSmithTransient());
+        //when
+        assertThrows(DeveloperWriteQueueFullException.class,
+                () -> queueUnderTest.submit(DataUtils.getFrankJonesTransient()));
+        //then
+        release.countDown();
+        assertThat(written.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test save rethrows the error of its developer")
+    void givenDuplicateEmail_whenSave_thenDuplicateEmailExceptionIsThrown() {
+        //given
+        queueUnderTest = start(properties(10, 1, Duration.ZERO));
+        BDDMockito.given(developerService.saveDevelopers(anyList()))
+                .willReturn(List.of(DeveloperBatchResultDto.builder()
+                        .index(0)
+                        .status(BatchItemStatus.DUPLICATE_EMAIL)
+                        .message("Email john.doe@mail.com already use")
+                        .build()));
+        //when
+        DeveloperEntity developer = DataUtils.getJohnDoeTransient();
+        //then
+        assertThrows(DeveloperWithDuplicateEmailException.class, () -> queueUnderTest.save(developer));
+    }
+
+    @Test
+    @DisplayName("Test submit while the writer is not running functionality")
+    void givenDisabledQueue_whenSubmit_thenExceptionIsThrown() {
+        //given
+        DeveloperWriteBehindProperties properties = properties(10, 1, Duration.ZERO);
+        properties.setEnabled(false);
+        queueUnderTest = start(properties);
+        //when
+        DeveloperEntity developer = DataUtils.getJohnDoeTransient();
+        //then
+        assertThat(queueUnderTest.isRunning()).isFalse();
+        assertThrows(DeveloperWriteQueueFullException.class, () -> queueUnderTest.submit(developer));
+    }
+
+    private DeveloperWriteBehindQueue start(DeveloperWriteBehindProperties properties) {
+        DeveloperWriteBehindQueue queue = new DeveloperWriteBehindQueue(developerService, properties);
+        queue.start();
+        return queue;
+    }
+
+    private static DeveloperWriteBehindProperties properties(int queueCapacity, int maxBatchSize, Duration maxLinger) {
+        DeveloperWriteBehindProperties properties = new DeveloperWriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setMaxLinger(maxLinger);
+        properties.setEnqueueTimeout(Duration.ZERO);
+        return properties;
+    }
+
+    private static DeveloperBatchResultDto created(int index, int id) {
+        return DeveloperBatchResultDto.builder()
+                .index(index)
+                .id(id)
+                .status(BatchItemStatus.CREATED)
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.fallt.qafordevs.service;
+
+import com.fallt.qafordevs.dto.BatchItemStatus;
+import com.fallt.qafordevs.entity.DeveloperChangeRow;
+import com.fallt.qafordevs.entity.DeveloperEntity;
+import com.fallt.qafordevs.entity.DeveloperRow;
+import com.fallt.qafordevs.entity.Status;
+import com.fallt.qafordevs.event.DeveloperChangeType;
+import com.fallt.qafordevs.event.DeveloperChangedEvent;
+import com.fallt.qafordevs.exeption.DeveloperNotFoundException;
+import com.fallt.qafordevs.index.SpecialityIndex;
+import com.fallt.qafordevs.repository.ReactiveDeveloperRepository;
+import com.fallt.qafordevs.util.DataUtils;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.transaction.TransactionProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDeveloperServiceImplTest {
+
+    @Mock
+    private ReactiveDeveloperRepository developerRepository;
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+    @Spy
+    private SpecialityIndex specialityIndex = new SpecialityIndex();
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private TransactionalOperator transactionalOperator;
+    @Spy
+    private TransactionProperties transactionProperties = new TransactionProperties();
+    @InjectMocks
+    private ReactiveDeveloperServiceImpl serviceUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        BDDMockito.given(transactionalOperator.transactional(ArgumentMatchers.<Mono<Object>>any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Test save developer functionality")
+    void givenDeveloperToSave_whenSaveDeveloper_thenIdIsTakenFromSequenceAndEventIsPublished() {
+        //given
+        BDDMockito.given(developerRepository.nextIdBlock()).willReturn(Mono.just(50L));
+        BDDMockito.given(entityTemplate.insert(any(DeveloperRow.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        givenOutbox();
+        //when
+        StepVerifier.create(serviceUnderTest.saveDeveloper(DataUtils.getJohnDoeTransient()))
+                //then
+                .assertNext(developer -> {
+                    assertThat(developer.getId()).isEqualTo(50);
+                    assertThat(developer.getStatus()).isEqualTo(Status.ACTIVE);
+                })
+                .verifyComplete();
+        verify(entityTemplate, times(1)).insert(argThat((Object change) -> change instanceof DeveloperChangeRow row
+                && row.type() == DeveloperChangeType.CREATED && row.developerId() == 50));
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((DeveloperChangedEvent event) -> event.type() == DeveloperChangeType.CREATED));
+    }
+
+    @Test
+    @DisplayName("Test save developers batch with duplicate email functionality")
+    void givenDuplicateEmail_whenSaveDevelopers_thenDuplicateIsReportedAndOthersAreCreated() {
+        //given
+        BDDMockito.given(developerRepository.nextIdBlock()).willReturn(Mono.just(50L))
+                .willReturn(Mono.just(100L));
+        BDDMockito.given(entityTemplate.insert(any(DeveloperRow.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)))
+                .willReturn(Mono.error(new DataIntegrityViolationException("duplicate",
+                        new R2dbcDataIntegrityViolationException(
+                                "duplicate key value violates unique constraint \"uk_developers_email\""))));
+        givenOutbox();
+        List<DeveloperEntity> developers = List.of(DataUtils.getJohnDoeTransient(), DataUtils.getJohnDoeTransient());
+        //when
+        StepVerifier.create(serviceUnderTest.saveDevelopers(developers))
+                //then
+                .assertNext(result -> assertThat(result.getStatus())
+                        .isEqualTo(BatchItemStatus.CREATED))
+                .assertNext(result -> assertThat(result.getMessage())
+                        .isEqualTo("Email john.doe@gmail.com already use"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test update developer without version functionality")
+    void givenDeveloperWithoutVersion_whenUpdateDeveloper_thenStoredVersionIsReturned() {
+        //given
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setVersion(null);
+        DeveloperRow storedDeveloper = DeveloperRow.fromEntity(DataUtils.getJohnDoePersisted()).toBuilder()
+                .version(7L)
+                .build();
+        BDDMockito.given(developerRepository.updateDeveloper(anyInt(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(Mono.just(1));
+        BDDMockito.given(developerRepository.findById(developerToUpdate.getId()))
+                .willReturn(Mono.just(storedDeveloper));
+        givenOutbox();
+        //when
+        StepVerifier.create(serviceUnderTest.updateDeveloper(developerToUpdate))
+                //then
+                .assertNext(updatedDeveloper -> assertThat(updatedDeveloper.getVersion()).isEqualTo(7L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test update developer with incorrect id functionality")
+    void givenIncorrectId_whenUpdateDeveloper_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.updateDeveloper(anyInt(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(Mono.just(0));
+        //when
+        StepVerifier.create(serviceUnderTest.updateDeveloper(DataUtils.getJohnDoePersisted()))
+                //then
+                .verifyError(DeveloperNotFoundException.class);
+        verify(developerRepository, never()).save(any(DeveloperRow.class));
+    }
+
+    @Test
+    @DisplayName("Test soft delete by id functionality")
+    void givenId_whenSoftDeleteById_thenStatusIsDeletedAndEventIsPublished() {
+        //given
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any())).willReturn(Mono.just(1));
+        BDDMockito.given(developerRepository.findVersionById(anyInt())).willReturn(Mono.just(3L));
+        givenOutbox();
+        //when
+        StepVerifier.create(serviceUnderTest.softDeleteById(1))
+                //then
+                .verifyComplete();
+        verify(developerRepository, never()).findById(anyInt());
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((DeveloperChangedEvent event) -> event.type() == DeveloperChangeType.SOFT_DELETED
+                        && event.developer().getVersion() == 3L));
+    }
+
+    @Test
+    @DisplayName("Test hard delete by id functionality")
+    void givenId_whenHardDeleteById_thenTombstoneIsRecordedAndEventIsPublished() {
+        //given
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt())).willReturn(Mono.just(1));
+        givenOutbox();
+        //when
+        StepVerifier.create(serviceUnderTest.hardDeleteById(1))
+                //then
+                .verifyComplete();
+        verify(entityTemplate, times(1)).insert(argThat((Object change) -> change instanceof DeveloperChangeRow row
+                && row.type() == DeveloperChangeType.HARD_DELETED && row.developerId() == 1));
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((DeveloperChangedEvent event) -> event.type() == DeveloperChangeType.HARD_DELETED));
+    }
+
+    @Test
+    @DisplayName("Test hard delete by incorrect id functionality")
+    void givenIncorrectId_whenHardDeleteById_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt())).willReturn(Mono.just(0));
+        //when
+        StepVerifier.create(serviceUnderTest.hardDeleteById(1))
+                //then
+                .verifyError(DeveloperNotFoundException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(developerRepository, never()).nextChangeId();
+    }
+
+    @Test
+    @DisplayName("Test get all developers with too large page size functionality")
+    void givenTooLargePageSize_whenGetAll_thenPageSizeIsLimited() {
+        //given
+        BDDMockito.given(developerRepository.findActivePage(anyInt(), anyInt())).willReturn(Flux.empty());
+        //when
+        StepVerifier.create(serviceUnderTest.getAllDevelopers(5, 10_000))
+                //then
+                .verifyComplete();
+        verify(developerRepository, times(1)).findActivePage(5, DeveloperService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Test get all active by speciality from built index functionality")
+    void givenBuiltSpecialityIndex_whenGetAllActiveBySpeciality_thenRepositoryIsNotCalled() {
+        //given
+        specialityIndex.completeRebuild(List.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+        //when
+        StepVerifier.create(serviceUnderTest.getAllActiveBySpeciality("Java"))
+                //then
+                .expectNextCount(2)
+                .verifyComplete();
+        verify(developerRepository, never()).findAllActiveBySpeciality(anyString());
+    }
+
+    private void givenOutbox() {
+        BDDMockito.given(developerRepository.nextChangeId()).willReturn(Mono.just(1L))
+                .willReturn(Mono.just(2L));
+        BDDMockito.given(entityTemplate.insert(any(DeveloperChangeRow.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+}
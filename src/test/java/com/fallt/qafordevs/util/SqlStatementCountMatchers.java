@@ -0,0 +1,21 @@
+package com.fallt.qafordevs.util;
+
+import com.fallt.qafordevs.config.SqlStatementCountFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatementCountMatchers {
+
+    public static ResultMatcher maxSqlStatements(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementCountFilter.HEADER);
+            assertThat(header)
+                    .as("%s header", SqlStatementCountFilter.HEADER)
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("SQL statements run by %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+}